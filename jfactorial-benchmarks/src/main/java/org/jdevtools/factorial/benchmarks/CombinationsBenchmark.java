@@ -0,0 +1,70 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial.benchmarks;
+
+import org.jdevtools.factorial.Factorials;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link Factorials#combinations(int, int)} and {@link Factorials#longCombinations(int, int)}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CombinationsBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int n;
+
+    @Param({"0.01", "0.1", "0.5"})
+    private double kRatio;
+
+    private int k;
+
+    @Setup
+    public void setUp() {
+        k = (int) (n * kRatio);
+    }
+
+    @Benchmark
+    public BigInteger combinations() {
+        return Factorials.combinations(n, k);
+    }
+
+    @Benchmark
+    public OptionalLong longCombinations() {
+        return Factorials.longCombinations(n, k);
+    }
+}
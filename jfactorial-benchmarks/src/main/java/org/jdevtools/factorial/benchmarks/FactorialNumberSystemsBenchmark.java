@@ -0,0 +1,86 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial.benchmarks;
+
+import org.jdevtools.factorial.FactorialNumberSystems;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of conversions of {@link FactorialNumberSystems}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FactorialNumberSystemsBenchmark {
+
+    @Param({"63", "1024", "16384", "131072"})
+    private int bitLength;
+
+    @Param({"1", "4"})
+    private int threads;
+
+    private BigInteger value;
+    private int[] digits;
+    private ForkJoinPool pool;
+
+    @Setup
+    public void setUp() {
+        value = new BigInteger(bitLength, new Random(42));
+        digits = FactorialNumberSystems.decimal2IntFactorials(value);
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int[] decimal2IntFactorials() {
+        return FactorialNumberSystems.decimal2IntFactorials(value);
+    }
+
+    @Benchmark
+    public int[] decimal2IntFactorialsInPool() {
+        return FactorialNumberSystems.decimal2IntFactorials(value, pool);
+    }
+
+    @Benchmark
+    public BigInteger intFactorials2Decimal() {
+        return FactorialNumberSystems.intFactorials2Decimal(digits);
+    }
+}
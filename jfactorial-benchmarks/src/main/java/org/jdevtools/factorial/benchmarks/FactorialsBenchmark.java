@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial.benchmarks;
+
+import org.jdevtools.factorial.FactorialAlgorithm;
+import org.jdevtools.factorial.Factorials;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link Factorials#factorial(int, ForkJoinPool)} and {@link FactorialAlgorithm#primeSwing()}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FactorialsBenchmark {
+
+    /**
+     * Calculated factorial's argument, that is shared by all benchmarks.
+     */
+    @State(Scope.Benchmark)
+    public static class Input {
+
+        @Param({"21", "1000", "10000", "100000", "1000000"})
+        private int n;
+    }
+
+    /**
+     * Pool of {@link #productTree(Input, Pool)}. {@link #primeSwing(Input)} doesn't depend on it, so it isn't
+     * repeated for every pool size.
+     */
+    @State(Scope.Benchmark)
+    public static class Pool {
+
+        @Param({"1", "4"})
+        private int threads;
+
+        private ForkJoinPool pool;
+
+        @Setup
+        public void setUp() {
+            pool = new ForkJoinPool(threads);
+        }
+
+        @TearDown
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @Benchmark
+    public BigInteger productTree(Input input, Pool pool) {
+        return Factorials.factorial(input.n, pool.pool);
+    }
+
+    @Benchmark
+    public BigInteger primeSwing(Input input) {
+        return Factorials.factorial(input.n, FactorialAlgorithm.primeSwing());
+    }
+}
@@ -15,5 +15,7 @@
  */
 
 module io.github.ilnurnasybullin.jfactorial {
+    requires static jdk.jfr;
+
     exports org.jdevtools.factorial;
 }
\ No newline at end of file
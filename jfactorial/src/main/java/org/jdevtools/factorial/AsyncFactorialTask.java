@@ -0,0 +1,123 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import java.math.BigInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Task of asynchronous factorial's calculating (see {@link Factorials#factorialAsync(int, java.util.concurrent.Executor,
+ * java.time.Duration, DoubleConsumer)}). Natural series from 21 to n is divided into chunks, every chunk is multiplied
+ * by binary splitting, and then products of chunks are multiplied pairwise, level by level. Between the steps (chunk's
+ * multiplication or multiplication of two products) task checks completion of the future (by cancellation or timeout)
+ * and reports progress.
+ * @author Ilnur Nasybullin
+ */
+final class AsyncFactorialTask implements Runnable {
+
+    /**
+     * Count of numbers of natural series in the chunk
+     */
+    private final static int CHUNK_LENGTH = 1 << 12;
+
+    private final int n;
+    private final CompletableFuture<BigInteger> future;
+    private final DoubleConsumer progressListener;
+
+    private int completedSteps;
+    private int totalSteps;
+
+    AsyncFactorialTask(int n, CompletableFuture<BigInteger> future, DoubleConsumer progressListener) {
+        this.n = n;
+        this.future = future;
+        this.progressListener = progressListener;
+    }
+
+    @Override
+    public void run() {
+        try {
+            BigInteger result = FactorialGovernor.isEnforced() ?
+                    FactorialGovernor.enforce(FactorialGovernor.estimateFactorialBytes(n), this::calculate) :
+                    calculate();
+            if (result != null) {
+                future.complete(result);
+            }
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Returns factorial value or null, if future has been completed before the end of calculations
+     */
+    private BigInteger calculate() {
+        int k = Factorials.maxLongFactorialDigit();
+        if (n <= k) {
+            totalSteps = 1;
+            return step() ? BigInteger.valueOf(Factorials.longFactorialValue(n)) : null;
+        }
+
+        long length = (long) n - k;
+        int chunks = (int) ((length + CHUNK_LENGTH - 1) / CHUNK_LENGTH);
+        totalSteps = 2 * chunks;
+
+        BigInteger[] products = new BigInteger[chunks + 1];
+        products[chunks] = BigInteger.valueOf(Factorials.longFactorialValue(k));
+        for (int i = 0; i < chunks; i++) {
+            int start = k + 1 + i * CHUNK_LENGTH;
+            int end = (int) Math.min((long) start + CHUNK_LENGTH, (long) n + 1);
+            products[i] = ProductTree.product(start, end);
+            if (!step()) {
+                return null;
+            }
+        }
+
+        for (int count = products.length; count > 1; count = (count + 1) / 2) {
+            for (int i = 0; i < count / 2; i++) {
+                products[i] = products[2 * i].multiply(products[2 * i + 1]);
+                if (!step()) {
+                    return null;
+                }
+            }
+
+            if (count % 2 == 1) {
+                products[count / 2] = products[count - 1];
+            }
+        }
+
+        return products[0];
+    }
+
+    /**
+     * Marks step as completed and reports progress
+     * @return true, if calculations must be continued
+     */
+    private boolean step() {
+        if (future.isDone()) {
+            return false;
+        }
+
+        completedSteps++;
+        if (progressListener != null) {
+            progressListener.accept((double) completedSteps / totalSteps);
+        }
+
+        return !future.isDone();
+    }
+}
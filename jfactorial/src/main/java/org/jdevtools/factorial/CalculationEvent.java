@@ -0,0 +1,81 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JDK Flight Recorder event of the call of instrumented operation (see {@link FactorialMetrics}). This class is loaded
+ * only if module {@code jdk.jfr} is available at runtime.
+ * @author Ilnur Nasybullin
+ */
+@Name("org.jdevtools.factorial.Calculation")
+@Label("Factorial Calculation")
+@Category("JFactorial")
+@Description("Call of instrumented operation of JFactorial library")
+@StackTrace(false)
+final class CalculationEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("N")
+    @Description("First argument of operation (see FactorialMetrics.Operation)")
+    private long n;
+
+    @Label("K")
+    @Description("Second argument of operation (see FactorialMetrics.Operation)")
+    private long k;
+
+    @Label("Result Bit Length")
+    private long bitLength;
+
+    @Label("Algorithm")
+    private String algorithm;
+
+    /**
+     * Creates event and begins its duration before the call of operation
+     */
+    static CalculationEvent start() {
+        CalculationEvent event = new CalculationEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Ends duration of event after the call of operation and commits it, if it's enabled and passes the threshold
+     */
+    void finish(String operation, long n, long k, long bitLength, String algorithm) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+
+        this.operation = operation;
+        this.n = n;
+        this.k = k;
+        this.bitLength = bitLength;
+        this.algorithm = algorithm;
+        commit();
+    }
+}
@@ -0,0 +1,432 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Utility class for writing of huge numbers (for example, factorial values with millions of digits) in the decimal
+ * number system. Unlike {@link BigInteger#toString()}, decimal digits are streamed by chunks into {@link Appendable}
+ * (including {@link Writer}) or {@link WritableByteChannel} without building of the whole intermediate string.
+ * <p>
+ *     Number is converted by divide-and-conquer: it's divided with remainder by power of ten
+ *     10<sup>18*2^i</sup>, that splits its decimal representation into two halves, and the halves are converted
+ *     recursively until they fit into long type variable. Powers of ten up to 10<sup>18*2^12</sup> are cached between
+ *     calls without locking, higher powers are calculated by every call and aren't retained. If pool is
+ *     given, halves of huge number are split in parallel, and chunks of digits are converted in parallel, but written
+ *     in order.
+ * </p>
+ * <p>
+ *     <b>This class is thread-safe.</b>
+ * </p>
+ * @author Ilnur Nasybullin
+ */
+public final class DecimalWriter {
+
+    /**
+     * Count of decimal digits of the lowest cached power of ten (10<sup>18</sup> fits into long type)
+     */
+    private final static int LEAF_DIGITS_COUNT = 18;
+
+    /**
+     * Level of chunks of digits (chunk contains 18*2<sup>level</sup> digits), that are converted in parallel
+     */
+    private final static int CHUNK_LEVEL = 12;
+
+    /**
+     * Size of buffer of written chars
+     */
+    private final static int BUFFER_SIZE = 1 << 13;
+
+    /**
+     * Decimal logarithm of 2
+     */
+    private final static double LOG10_2 = Math.log10(2);
+
+    /**
+     * Max level of cached power of ten (10<sup>18*2^12</sup> has about 30 KiB, so all cached powers have about 60 KiB)
+     */
+    private final static int MAX_CACHED_LEVEL = CHUNK_LEVEL;
+
+    /**
+     * Cached powers of ten: i-th power is equal to 10<sup>18*2^i</sup>. Array only grows (up to
+     * {@link #MAX_CACHED_LEVEL}) and is replaced by CAS, so concurrent writers don't block each other
+     */
+    private final static AtomicReference<BigInteger[]> POWERS =
+            new AtomicReference<>(new BigInteger[]{BigInteger.TEN.pow(LEAF_DIGITS_COUNT)});
+
+    /**
+     * Private constructor for inability to create an object of this class
+     */
+    private DecimalWriter() {}
+
+    /**
+     * Writes decimal representation of number (the same as {@link BigInteger#toString()}) into the output. The output
+     * isn't flushed and isn't closed.
+     * @param value written number
+     * @param out output of decimal digits
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if value or out is null
+     */
+    public static void write(BigInteger value, Appendable out) throws IOException {
+        checkValue(value);
+        if (out == null) {
+            throw new NullPointerException("Output is null!");
+        }
+
+        write(value, new Sink(out, null), null);
+    }
+
+    /**
+     * Writes decimal representation of number (the same as {@link BigInteger#toString()}) into the output, huge number
+     * is converted in parallel in the pool. The output isn't flushed and isn't closed.
+     * @param value written number
+     * @param out output of decimal digits
+     * @param pool pool for parallel conversion
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if value, out or pool is null
+     */
+    public static void write(BigInteger value, Appendable out, ForkJoinPool pool) throws IOException {
+        checkValue(value);
+        if (out == null) {
+            throw new NullPointerException("Output is null!");
+        }
+
+        write(value, new Sink(out, null), checkPool(pool));
+    }
+
+    /**
+     * Writes decimal representation of number (the same as {@link BigInteger#toString()}) in US-ASCII encoding into the
+     * channel. The channel isn't closed.
+     * @param value written number
+     * @param channel output channel
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if value or channel is null
+     */
+    public static void write(BigInteger value, WritableByteChannel channel) throws IOException {
+        checkValue(value);
+        if (channel == null) {
+            throw new NullPointerException("Channel is null!");
+        }
+
+        write(value, new Sink(null, channel), null);
+    }
+
+    /**
+     * Writes decimal representation of number (the same as {@link BigInteger#toString()}) in US-ASCII encoding into the
+     * channel, huge number is converted in parallel in the pool. The channel isn't closed.
+     * @param value written number
+     * @param channel output channel
+     * @param pool pool for parallel conversion
+     * @throws IOException if an I/O error occurs
+     * @throws NullPointerException if value, channel or pool is null
+     */
+    public static void write(BigInteger value, WritableByteChannel channel, ForkJoinPool pool) throws IOException {
+        checkValue(value);
+        if (channel == null) {
+            throw new NullPointerException("Channel is null!");
+        }
+
+        write(value, new Sink(null, channel), checkPool(pool));
+    }
+
+    private static void checkValue(BigInteger value) {
+        if (value == null) {
+            throw new NullPointerException("Value is null!");
+        }
+    }
+
+    private static ForkJoinPool checkPool(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new NullPointerException("Pool is null!");
+        }
+
+        return pool;
+    }
+
+    private static void write(BigInteger value, Sink sink, ForkJoinPool pool) throws IOException {
+        if (value.signum() < 0) {
+            sink.write('-');
+            value = value.negate();
+        }
+
+        int level = level(value);
+        BigInteger[] powers = powers(level);
+        if (pool == null || level <= CHUNK_LEVEL) {
+            write(value, level, true, powers, sink);
+        } else {
+            writeChunks(value, level, powers, sink, pool);
+        }
+
+        sink.flush();
+    }
+
+    /**
+     * Returns level i, such that number is less than 10<sup>18*2^i</sup> (by upper bound of count of its digits)
+     */
+    private static int level(BigInteger value) {
+        long digitsCount = (long) (value.bitLength() * LOG10_2) + 2;
+        int level = 0;
+        while ((long) LEAF_DIGITS_COUNT << level < digitsCount) {
+            level++;
+        }
+
+        return level;
+    }
+
+    /**
+     * Returns powers of ten with levels from 0 to level (inclusive, array may contain higher levels). Powers up to
+     * {@link #MAX_CACHED_LEVEL} are taken from the cache (and are added into it, if they are absent), higher powers are
+     * calculated for this call only
+     */
+    private static BigInteger[] powers(int level) {
+        BigInteger[] cached = POWERS.get();
+        int cachedLevel = Math.min(level, MAX_CACHED_LEVEL);
+        if (cached.length <= cachedLevel) {
+            cached = extend(cached, cachedLevel);
+            POWERS.accumulateAndGet(cached,
+                    (current, extended) -> current.length < extended.length ? extended : current);
+        }
+
+        return cached.length <= level ? extend(cached, level) : cached;
+    }
+
+    /**
+     * Returns new array of powers of ten with levels from 0 to level (inclusive), that starts with the given powers
+     */
+    private static BigInteger[] extend(BigInteger[] powers, int level) {
+        BigInteger[] extended = Arrays.copyOf(powers, level + 1);
+        for (int i = powers.length; i <= level; i++) {
+            extended[i] = extended[i - 1].multiply(extended[i - 1]);
+        }
+
+        return extended;
+    }
+
+    /**
+     * Writes number, that is less than 10<sup>18*2<sup>level</sup></sup>, with leading zeros up to
+     * 18*2<sup>level</sup> digits (if it's not leading part of number)
+     */
+    private static void write(BigInteger value, int level, boolean leading, BigInteger[] powers, Sink sink)
+            throws IOException {
+        if (value.bitLength() < Long.SIZE) {
+            long longValue = value.longValue();
+            if (!leading) {
+                sink.writeZeros((LEAF_DIGITS_COUNT << level) - digitsCount(longValue));
+            }
+            sink.write(longValue);
+            return;
+        }
+
+        BigInteger[] quotientAndRemainder = value.divideAndRemainder(powers[level - 1]);
+        if (!leading || quotientAndRemainder[0].signum() != 0) {
+            write(quotientAndRemainder[0], level - 1, leading, powers, sink);
+            leading = false;
+        }
+        write(quotientAndRemainder[1], level - 1, leading, powers, sink);
+    }
+
+    private static int digitsCount(long value) {
+        int count = 1;
+        while (value >= 10L) {
+            value /= 10L;
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Splits huge number into chunks of {@link #CHUNK_LEVEL} level in parallel, and then converts chunks in parallel
+     * and writes them in order. Count of converted, but not written chunks is limited by twice parallelism of pool.
+     */
+    private static void writeChunks(BigInteger value, int level, BigInteger[] powers, Sink sink, ForkJoinPool pool)
+            throws IOException {
+        BigInteger[] chunks = new BigInteger[1 << (level - CHUNK_LEVEL)];
+        pool.invoke(new SplitTask(value, level, 0, powers, chunks));
+
+        int first = 0;
+        while (first < chunks.length - 1 && chunks[first].signum() == 0) {
+            first++;
+        }
+
+        int window = 2 * pool.getParallelism();
+        Deque<ForkJoinTask<StringBuilder>> conversions = new ArrayDeque<>(window);
+        int next = first;
+        while (next < chunks.length || !conversions.isEmpty()) {
+            while (next < chunks.length && conversions.size() < window) {
+                conversions.addLast(pool.submit(new ChunkTask(chunks[next], next == first, powers)));
+                chunks[next++] = null;
+            }
+
+            sink.write(conversions.removeFirst().join());
+        }
+    }
+
+    /**
+     * Task for parallel splitting of number into chunks of {@link #CHUNK_LEVEL} level.
+     */
+    private static class SplitTask extends RecursiveAction {
+
+        private final BigInteger value;
+        private final int level;
+        private final int index;
+        private final BigInteger[] powers;
+        private final BigInteger[] chunks;
+
+        private SplitTask(BigInteger value, int level, int index, BigInteger[] powers, BigInteger[] chunks) {
+            this.value = value;
+            this.level = level;
+            this.index = index;
+            this.powers = powers;
+            this.chunks = chunks;
+        }
+
+        @Override
+        protected void compute() {
+            if (level == CHUNK_LEVEL) {
+                chunks[index] = value;
+                return;
+            }
+
+            BigInteger[] quotientAndRemainder = value.divideAndRemainder(powers[level - 1]);
+            invokeAll(new SplitTask(quotientAndRemainder[0], level - 1, 2 * index, powers, chunks),
+                    new SplitTask(quotientAndRemainder[1], level - 1, 2 * index + 1, powers, chunks));
+        }
+    }
+
+    /**
+     * Task for conversion of chunk of {@link #CHUNK_LEVEL} level into decimal digits.
+     */
+    private static class ChunkTask extends RecursiveTask<StringBuilder> {
+
+        private final BigInteger chunk;
+        private final boolean leading;
+        private final BigInteger[] powers;
+
+        private ChunkTask(BigInteger chunk, boolean leading, BigInteger[] powers) {
+            this.chunk = chunk;
+            this.leading = leading;
+            this.powers = powers;
+        }
+
+        @Override
+        protected StringBuilder compute() {
+            StringBuilder digits = new StringBuilder(LEAF_DIGITS_COUNT << CHUNK_LEVEL);
+            try {
+                Sink sink = new Sink(digits, null);
+                write(chunk, CHUNK_LEVEL, leading, powers, sink);
+                sink.flush();
+            } catch (IOException e) {
+                throw new AssertionError("StringBuilder doesn't throw IOException", e);
+            }
+
+            return digits;
+        }
+    }
+
+    /**
+     * Buffered output of decimal digits into {@link Appendable} or {@link WritableByteChannel}.
+     */
+    private static class Sink {
+
+        private final Appendable out;
+        private final WritableByteChannel channel;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private final ByteBuffer bytes;
+        private int size;
+
+        private Sink(Appendable out, WritableByteChannel channel) {
+            this.out = out;
+            this.channel = channel;
+            this.bytes = channel == null ? null : ByteBuffer.allocate(BUFFER_SIZE);
+        }
+
+        private void write(char c) throws IOException {
+            if (size == buffer.length) {
+                flush();
+            }
+            buffer[size++] = c;
+        }
+
+        private void writeZeros(int count) throws IOException {
+            for (int i = 0; i < count; i++) {
+                write('0');
+            }
+        }
+
+        private void write(long value) throws IOException {
+            if (buffer.length - size < LEAF_DIGITS_COUNT + 1) {
+                flush();
+            }
+
+            int end = size + digitsCount(value);
+            for (int i = end - 1; i >= size; i--) {
+                buffer[i] = (char) ('0' + value % 10L);
+                value /= 10L;
+            }
+            size = end;
+        }
+
+        private void write(StringBuilder digits) throws IOException {
+            int start = 0;
+            while (start < digits.length()) {
+                if (size == buffer.length) {
+                    flush();
+                }
+
+                int end = Math.min(digits.length(), start + buffer.length - size);
+                digits.getChars(start, end, buffer, size);
+                size += end - start;
+                start = end;
+            }
+        }
+
+        private void flush() throws IOException {
+            if (channel != null) {
+                bytes.clear();
+                for (int i = 0; i < size; i++) {
+                    bytes.put((byte) buffer[i]);
+                }
+                bytes.flip();
+                while (bytes.hasRemaining()) {
+                    channel.write(bytes);
+                }
+            } else if (out instanceof Writer) {
+                ((Writer) out).write(buffer, 0, size);
+            } else {
+                out.append(CharBuffer.wrap(buffer, 0, size));
+            }
+
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jdevtools.factorial;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Strategy of factorial's calculating (see {@link Factorials#factorial(int, FactorialAlgorithm)}). Implementations of
+ * this interface, that are returned by static methods of this interface, are thread-safe and are represented by the
+ * names of these methods. String representation of algorithm is recorded by instrumentation as the used algorithm (see
+ * {@link FactorialMetrics}).
+ * @author Ilnur Nasybullin
+ */
+@FunctionalInterface
+public interface FactorialAlgorithm {
+
+    /**
+     * Returns {@link BigInteger} representative of factorial digit.
+     * @param n digit of factorial (non-negative number, that has been checked by caller)
+     * @return {@link BigInteger} factorial value
+     */
+    BigInteger factorial(int n);
+
+    /**
+     * Returns algorithm, that multiplies natural series from 21 to n sequentially in current thread. Calculations are
+     * performed in a loop first over long type variable and then, if possible overflow of long type, multiplies
+     * {@link BigInteger} value.
+     * @return algorithm of sequential multiplication
+     */
+    static FactorialAlgorithm multiplyRange() {
+        return RangeFactorialAlgorithm.INSTANCE;
+    }
+
+    /**
+     * Returns algorithm, that multiplies natural series from 21 to n by balanced binary splitting in the
+     * {@link ForkJoinPool#commonPool()} (see {@link Factorials#factorial(int, ForkJoinPool)}).
+     * @return algorithm of parallel binary splitting
+     */
+    static FactorialAlgorithm productTree() {
+        return productTree(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns algorithm, that multiplies natural series from 21 to n by balanced binary splitting in the pool
+     * (see {@link Factorials#factorial(int, ForkJoinPool)}).
+     * @param pool pool for parallel multiplication
+     * @return algorithm of parallel binary splitting
+     * @throws NullPointerException if pool is null
+     */
+    static FactorialAlgorithm productTree(ForkJoinPool pool) {
+        if (pool == null) {
+            throw new NullPointerException("Pool is null!");
+        }
+
+        return new ProductTreeFactorialAlgorithm(pool);
+    }
+
+    /**
+     * Returns <a href=http://www.luschny.de/math/factorial/FastFactorialFunctions.htm>prime swing</a> algorithm of
+     * Peter Luschny. This algorithm calculates n! = ((&lfloor;n/2&rfloor;)!)<sup>2</sup> * n&#8768; recursively, where
+     * n&#8768; - swinging factorial, that is calculated from the factorization by prime numbers. Far fewer
+     * multiplications of huge numbers are required, than for the multiplication of natural series.
+     * @return prime swing algorithm
+     */
+    static FactorialAlgorithm primeSwing() {
+        return PrimeSwingFactorialAlgorithm.INSTANCE;
+    }
+}
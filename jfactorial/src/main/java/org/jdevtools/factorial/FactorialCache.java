@@ -0,0 +1,272 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Cache of factorial values for the repeated calculations of factorials of nearby digits. Cache stores checkpoint
+ * values (factorials of digits, that are multiples of stride) and calculates n! by the multiplication of the nearest
+ * lower checkpoint value by natural series from checkpoint digit to n (see {@link Factorials#factorial(int, ForkJoinPool)}).
+ * <p>
+ *     Total bit length of stored values is limited by memory budget. If budget is exceeded, least recently used
+ *     checkpoints are evicted. Concurrent calculations of the same digit are deduplicated: only one thread calculates
+ *     value and other threads wait for it.
+ * </p>
+ * <p>
+ *     <b>This class is thread-safe.</b>
+ * </p>
+ * @author Ilnur Nasybullin
+ */
+public final class FactorialCache {
+
+    private final int stride;
+    private final long maxBits;
+    private final ForkJoinPool pool;
+
+    private final Object lock = new Object();
+
+    /**
+     * Stored checkpoints in the order of access (from least recently used to most recently used)
+     */
+    private final LinkedHashMap<Integer, BigInteger> accessOrder = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Stored checkpoints in the order of digits
+     */
+    private final TreeMap<Integer, BigInteger> checkpoints = new TreeMap<>();
+
+    private long usedBits;
+
+    /**
+     * Calculations, that are performed at the moment
+     */
+    private final ConcurrentMap<Integer, CompletableFuture<BigInteger>> calculations = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs cache, that calculates factorials in the {@link ForkJoinPool#commonPool()}.
+     * @param stride distance between digits of checkpoints
+     * @param maxBits memory budget - maximal total bit length of stored values
+     * @throws IllegalArgumentException if stride isn't positive or maxBits is negative
+     */
+    public FactorialCache(int stride, long maxBits) {
+        this(stride, maxBits, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs cache, that calculates factorials in the pool.
+     * @param stride distance between digits of checkpoints
+     * @param maxBits memory budget - maximal total bit length of stored values
+     * @param pool pool for parallel multiplication
+     * @throws IllegalArgumentException if stride isn't positive or maxBits is negative
+     * @throws NullPointerException if pool is null
+     */
+    public FactorialCache(int stride, long maxBits, ForkJoinPool pool) {
+        if (stride <= 0) {
+            throw new IllegalArgumentException(String.format("stride isn't positive number! (stride = %d)", stride));
+        }
+
+        if (maxBits < 0) {
+            throw new IllegalArgumentException(String.format("maxBits is negative number! (maxBits = %d)", maxBits));
+        }
+
+        if (pool == null) {
+            throw new NullPointerException("Pool is null!");
+        }
+
+        this.stride = stride;
+        this.maxBits = maxBits;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns {@link BigInteger} representative of factorial digit. If digit is multiple of stride, value is stored
+     * in the cache.
+     * @param n digit of factorial
+     * @return {@link BigInteger} factorial value
+     * @throws IllegalArgumentException if n is negative
+     */
+    public BigInteger factorial(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException(String.format("digit is negative number! (n = %d)", n));
+        }
+
+        int k = Factorials.maxLongFactorialDigit();
+        if (n <= k) {
+            return BigInteger.valueOf(Factorials.longFactorial(n).get());
+        }
+
+        BigInteger value = get(n);
+        if (value != null) {
+            return value;
+        }
+
+        CompletableFuture<BigInteger> calculation = new CompletableFuture<>();
+        CompletableFuture<BigInteger> current = calculations.putIfAbsent(n, calculation);
+        if (current != null) {
+            return await(current);
+        }
+
+        try {
+            value = calculate(n);
+            calculation.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            calculation.completeExceptionally(e);
+            throw e;
+        } finally {
+            calculations.remove(n, calculation);
+        }
+    }
+
+    private BigInteger calculate(int n) {
+        int k = Factorials.maxLongFactorialDigit();
+        int checkpointDigit = n - n % stride;
+
+        int baseDigit = k;
+        BigInteger base = BigInteger.valueOf(Factorials.longFactorial(k).get());
+
+        synchronized (lock) {
+            Map.Entry<Integer, BigInteger> floor = checkpoints.floorEntry(n);
+            if (floor != null) {
+                baseDigit = floor.getKey();
+                base = floor.getValue();
+                accessOrder.get(baseDigit);
+            }
+        }
+
+        if (baseDigit == n) {
+            return base;
+        }
+
+        if (checkpointDigit != n && checkpointDigit > baseDigit) {
+            baseDigit = checkpointDigit;
+            base = factorial(checkpointDigit);
+        }
+
+        BigInteger value = base.multiply(ProductTree.product(baseDigit + 1, n + 1, pool));
+        if (checkpointDigit == n) {
+            put(n, value);
+        }
+
+        return value;
+    }
+
+    private BigInteger get(int n) {
+        synchronized (lock) {
+            return accessOrder.get(n);
+        }
+    }
+
+    private void put(int n, BigInteger value) {
+        long bits = value.bitLength();
+        if (bits > maxBits) {
+            return;
+        }
+
+        synchronized (lock) {
+            if (accessOrder.put(n, value) != null) {
+                return;
+            }
+
+            checkpoints.put(n, value);
+            usedBits += bits;
+
+            Iterator<Map.Entry<Integer, BigInteger>> iterator = accessOrder.entrySet().iterator();
+            while (usedBits > maxBits) {
+                Map.Entry<Integer, BigInteger> eldest = iterator.next();
+                iterator.remove();
+                checkpoints.remove(eldest.getKey());
+                usedBits -= eldest.getValue().bitLength();
+            }
+        }
+    }
+
+    private static BigInteger await(CompletableFuture<BigInteger> calculation) {
+        try {
+            return calculation.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Returns distance between digits of checkpoints
+     * @return distance between digits of checkpoints
+     */
+    public int getStride() {
+        return stride;
+    }
+
+    /**
+     * Returns memory budget - maximal total bit length of stored values
+     * @return maximal total bit length of stored values
+     */
+    public long getMaxBits() {
+        return maxBits;
+    }
+
+    /**
+     * Returns total bit length of stored values
+     * @return total bit length of stored values
+     */
+    public long getUsedBits() {
+        synchronized (lock) {
+            return usedBits;
+        }
+    }
+
+    /**
+     * Returns count of stored checkpoints
+     * @return count of stored checkpoints
+     */
+    public int size() {
+        synchronized (lock) {
+            return checkpoints.size();
+        }
+    }
+
+    /**
+     * Removes all stored checkpoints
+     */
+    public void clear() {
+        synchronized (lock) {
+            accessOrder.clear();
+            checkpoints.clear();
+            usedBits = 0L;
+        }
+    }
+}
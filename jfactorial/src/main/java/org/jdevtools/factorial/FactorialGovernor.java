@@ -0,0 +1,428 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Optional;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Admission control of concurrent calculations of huge factorials and combinations by memory budget. Governor
+ * estimates peak working memory of every calculation (see {@link #estimateFactorialBytes(int)} and
+ * {@link #estimateCombinationsBytes(int, int)}) and admits calculation, only if total estimated memory of admitted and
+ * not finished calculations doesn't exceed the budget. Not admitted calculation can wait (see {@link #factorial(int)}),
+ * fail fast (see {@link #tryFactorial(int)}) or degrade to approximate value (see
+ * {@link #factorialOrApproximation(int)}).
+ * <p>
+ *     Waiting calculations are admitted in FIFO order, so calculation with large estimation isn't starved by
+ *     calculations with small ones. Calculation, which estimation exceeds the whole budget, can't be admitted at all.
+ *     Budget is accounted in kibibytes.
+ * </p>
+ * <p>
+ *     Governor protects calculations, that are performed through it, so all callers in the application should share the
+ *     same governor, for example, the global one (see {@link #global()}). Also, admission can be enforced inside the
+ *     library (see {@link #setEnforced(boolean)}): then calculations of {@link BigInteger} factorials, combinations,
+ *     multinomial coefficients, falling, rising and double factorials by static methods of {@link Factorials}
+ *     (including batch and asynchronous ones), that aren't performed through any governor, are admitted by the global
+ *     governor, so direct calls can't bypass the budget. Factorial algorithms, that are called directly (see
+ *     {@link FactorialAlgorithm#factorial(int)}), and other classes of the library aren't governed.
+ * </p>
+ * <p>
+ *     <b>This class is thread-safe.</b>
+ * </p>
+ * @author Ilnur Nasybullin
+ */
+public final class FactorialGovernor {
+
+    /**
+     * Name of system property with budget of the global governor in bytes (by default, budget of the global governor is
+     * a half of max memory of JVM, see {@link Runtime#maxMemory()})
+     */
+    public final static String MAX_BYTES_PROPERTY = "org.jdevtools.factorial.governor.maxBytes";
+
+    /**
+     * Name of system property, that enforces admission of calculations inside the library by the global governor at
+     * startup (if it's equal to "true", see {@link #setEnforced(boolean)})
+     */
+    public final static String ENFORCED_PROPERTY = "org.jdevtools.factorial.governor.enforced";
+
+    /**
+     * Ratio of peak working memory of calculation to the memory of its largest {@link BigInteger} operand: the operand,
+     * the result of multiplication (or the quotient of division) and intermediate values of Toom-Cook multiplication
+     * (or Burnikel-Ziegler division) are alive at the same time
+     */
+    private final static int PEAK_MEMORY_RATIO = 4;
+
+    /**
+     * Memory of calculation, that doesn't depend on the length of values (objects of tasks, stacks and etc.)
+     */
+    private final static long BASE_BYTES = 1L << 10;
+
+    /**
+     * Size of one permit of budget in bytes
+     */
+    private final static long PERMIT_BYTES = 1L << 10;
+
+    /**
+     * Count of significant decimal digits of approximate values
+     */
+    private final static MathContext APPROXIMATION_CONTEXT = new MathContext(12);
+
+    /**
+     * Context of natural logarithms of approximate values: logarithm of factorial value of int digit is less than
+     * 5*10<sup>10</sup>, so its absolute error is less than 10<sup>-25</sup>, that is enough for 12 significant digits
+     * of value
+     */
+    private final static MathContext LOG_CONTEXT = new MathContext(40);
+
+    private static volatile boolean enforced = Boolean.getBoolean(ENFORCED_PROPERTY);
+
+    /**
+     * Is calculation of current thread already admitted by any governor (nested calculations aren't admitted again)
+     */
+    private final static ThreadLocal<Boolean> ADMITTED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    private final long maxBytes;
+    private final int maxPermits;
+    private final Semaphore permits;
+
+    /**
+     * Constructs governor with memory budget.
+     * @param maxBytes memory budget in bytes - maximal total estimated memory of admitted calculations
+     * @throws IllegalArgumentException if maxBytes isn't positive
+     */
+    public FactorialGovernor(long maxBytes) {
+        if (maxBytes <= 0L) {
+            throw new IllegalArgumentException(String.format("maxBytes isn't positive number! (maxBytes = %d)",
+                    maxBytes));
+        }
+
+        this.maxBytes = maxBytes;
+        this.maxPermits = permits(maxBytes);
+        this.permits = new Semaphore(maxPermits, true);
+    }
+
+    /**
+     * Returns the global governor, that is shared by all callers in JVM. Budget of the global governor is specified by
+     * system property {@value #MAX_BYTES_PROPERTY} (if it's absent, budget is a half of max memory of JVM).
+     * @return the global governor
+     */
+    public static FactorialGovernor global() {
+        return GlobalGovernorHolder.GOVERNOR;
+    }
+
+    private static class GlobalGovernorHolder {
+
+        private final static FactorialGovernor GOVERNOR = new FactorialGovernor(
+                Long.getLong(MAX_BYTES_PROPERTY, Math.max(Runtime.getRuntime().maxMemory() / 2, 1L)));
+    }
+
+    /**
+     * Enables or disables admission of calculations inside the library by the global governor. If admission is
+     * enforced, calculations of {@link BigInteger} values by static methods of {@link Factorials} (factorials,
+     * combinations, multinomial coefficients, falling, rising and double factorials), that aren't performed through any
+     * governor, wait uninterruptibly for the release of memory by other calculations (see {@link #factorial(int)}) and
+     * throw {@link IllegalArgumentException}, if estimated memory of calculation exceeds the budget of the global
+     * governor (asynchronous calculations wait in the thread of executor and complete their futures exceptionally). If
+     * admission isn't enforced (by default), every call of these methods costs only one volatile read.
+     * @param enforced true, if admission should be enforced
+     */
+    public static void setEnforced(boolean enforced) {
+        FactorialGovernor.enforced = enforced;
+    }
+
+    /**
+     * Returns true, if admission of calculations inside the library by the global governor is enforced (see
+     * {@link #setEnforced(boolean)})
+     * @return true, if admission is enforced
+     */
+    public static boolean isEnforced() {
+        return enforced;
+    }
+
+    /**
+     * Performs calculation of the library, that is admitted by the global governor, if it isn't performed through any
+     * governor yet (see {@link #setEnforced(boolean)}).
+     */
+    static <T> T enforce(long bytes, Supplier<T> calculation) {
+        if (ADMITTED.get()) {
+            return calculation.get();
+        }
+
+        FactorialGovernor governor = global();
+        int required = governor.checkBudget(bytes);
+        governor.permits.acquireUninterruptibly(required);
+        return governor.calculate(required, calculation);
+    }
+
+    /**
+     * Returns estimation of peak working memory of calculation of factorial value (see {@link Factorials#factorial(int)})
+     * @param n digit of factorial
+     * @return estimated count of bytes
+     * @throws IllegalArgumentException if n is negative
+     * @implNote Estimation is proportional to the length of factorial value, that is calculated by its logarithm
+     * (see {@link Factorials#logFactorial(int)})
+     */
+    public static long estimateFactorialBytes(int n) {
+        return estimateBytes(Factorials.logFactorial(n));
+    }
+
+    /**
+     * Returns estimation of peak working memory of calculation of combination (see
+     * {@link Factorials#combinations(int, int)})
+     * @param n - things count
+     * @param k - taken things count
+     * @return estimated count of bytes
+     * @throws IllegalArgumentException - if k &lt; 0 or n &lt; k
+     * @implNote Estimation is proportional to the length of combination value, if it's calculated from its
+     * factorization by prime numbers, otherwise, to the length of the numerator n!/(n-s)! (s = min(k, n-k)), that is
+     * divided by s!
+     */
+    public static long estimateCombinationsBytes(int n, int k) {
+        double logValue = Factorials.logCombinations(n, k);
+        int s = Math.min(k, n - k);
+        if (!Factorials.isPrimeCombinations(n, s)) {
+            logValue = Factorials.logFactorial(n) - Factorials.logFactorial(n - s);
+        }
+
+        return estimateBytes(logValue);
+    }
+
+    /**
+     * Returns estimation of peak working memory of calculation of value by its natural logarithm
+     */
+    static long estimateBytes(double logValue) {
+        double bytes = Math.ceil(logValue / Math.log(2) / Byte.SIZE) + 1.0;
+        return BASE_BYTES + (long) Math.min(bytes * PEAK_MEMORY_RATIO, Long.MAX_VALUE / 2);
+    }
+
+    private static int permits(long bytes) {
+        return (int) Math.min((bytes + PERMIT_BYTES - 1) / PERMIT_BYTES, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns {@link BigInteger} representative of factorial digit (see {@link Factorials#factorial(int)}). If
+     * calculation isn't admitted now, current thread waits for the release of memory by other calculations.
+     * @param n digit of factorial
+     * @return {@link BigInteger} factorial value
+     * @throws IllegalArgumentException if n is negative or estimated memory of calculation exceeds the budget
+     * @throws InterruptedException if current thread is interrupted while waiting
+     */
+    public BigInteger factorial(int n) throws InterruptedException {
+        return admit(estimateFactorialBytes(n), () -> Factorials.factorial(n));
+    }
+
+    /**
+     * Returns {@link BigInteger} representative combination of n things taken k at a time without repetition (see
+     * {@link Factorials#combinations(int, int)}). If calculation isn't admitted now, current thread waits for the
+     * release of memory by other calculations.
+     * @param n - things count
+     * @param k - taken things count
+     * @return {@link BigInteger} combination value
+     * @throws IllegalArgumentException if k &lt; 0 or n &lt; k or estimated memory of calculation exceeds the budget
+     * @throws InterruptedException if current thread is interrupted while waiting
+     */
+    public BigInteger combinations(int n, int k) throws InterruptedException {
+        return admit(estimateCombinationsBytes(n, k), () -> Factorials.combinations(n, k));
+    }
+
+    /**
+     * Returns {@link Optional} object with {@link BigInteger} representative of factorial digit (see
+     * {@link Factorials#factorial(int)}), if calculation is admitted now, otherwise, returns {@link Optional#empty()}
+     * object without waiting.
+     * @param n digit of factorial
+     * @return {@link Optional} object with factorial value or {@link Optional#empty()} object
+     * @throws IllegalArgumentException if n is negative
+     */
+    public Optional<BigInteger> tryFactorial(int n) {
+        return tryAdmit(estimateFactorialBytes(n), () -> Factorials.factorial(n));
+    }
+
+    /**
+     * Returns {@link Optional} object with {@link BigInteger} representative of factorial digit (see
+     * {@link Factorials#factorial(int)}), if calculation is admitted during the timeout, otherwise, returns
+     * {@link Optional#empty()} object.
+     * @param n digit of factorial
+     * @param timeout maximal time of waiting
+     * @param unit unit of timeout
+     * @return {@link Optional} object with factorial value or {@link Optional#empty()} object
+     * @throws IllegalArgumentException if n is negative
+     * @throws NullPointerException if unit is null
+     * @throws InterruptedException if current thread is interrupted while waiting
+     */
+    public Optional<BigInteger> tryFactorial(int n, long timeout, TimeUnit unit) throws InterruptedException {
+        return tryAdmit(estimateFactorialBytes(n), timeout, unit, () -> Factorials.factorial(n));
+    }
+
+    /**
+     * Returns {@link Optional} object with {@link BigInteger} representative combination of n things taken k at a time
+     * without repetition (see {@link Factorials#combinations(int, int)}), if calculation is admitted now, otherwise,
+     * returns {@link Optional#empty()} object without waiting.
+     * @param n - things count
+     * @param k - taken things count
+     * @return {@link Optional} object with combination value or {@link Optional#empty()} object
+     * @throws IllegalArgumentException if k &lt; 0 or n &lt; k
+     */
+    public Optional<BigInteger> tryCombinations(int n, int k) {
+        return tryAdmit(estimateCombinationsBytes(n, k), () -> Factorials.combinations(n, k));
+    }
+
+    /**
+     * Returns {@link Optional} object with {@link BigInteger} representative combination of n things taken k at a time
+     * without repetition (see {@link Factorials#combinations(int, int)}), if calculation is admitted during the
+     * timeout, otherwise, returns {@link Optional#empty()} object.
+     * @param n - things count
+     * @param k - taken things count
+     * @param timeout maximal time of waiting
+     * @param unit unit of timeout
+     * @return {@link Optional} object with combination value or {@link Optional#empty()} object
+     * @throws IllegalArgumentException if k &lt; 0 or n &lt; k
+     * @throws NullPointerException if unit is null
+     * @throws InterruptedException if current thread is interrupted while waiting
+     */
+    public Optional<BigInteger> tryCombinations(int n, int k, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        return tryAdmit(estimateCombinationsBytes(n, k), timeout, unit, () -> Factorials.combinations(n, k));
+    }
+
+    /**
+     * Returns exact factorial value (see {@link Factorials#factorial(int)}), if calculation is admitted now, otherwise,
+     * returns approximate value with 12 significant digits without waiting.
+     * @param n digit of factorial
+     * @return exact or approximate factorial value
+     * @throws IllegalArgumentException if n is negative
+     * @throws ArithmeticException if approximate value isn't representable by {@link BigDecimal} (its decimal exponent
+     * is more than {@link Integer#MAX_VALUE}, that is possible for n &gt; 2.5*10<sup>8</sup>)
+     * @implNote Approximate value is calculated by natural logarithm of factorial value, that is calculated by
+     * Stirling's series in {@link BigDecimal} precision (unlike {@link Factorials#logFactorial(int)}, the fractional
+     * part of its decimal logarithm isn't lost for large n)
+     */
+    public BigDecimal factorialOrApproximation(int n) {
+        Optional<BigInteger> value = tryFactorial(n);
+        return value.isPresent() ? new BigDecimal(value.get()) : approximation(Logarithms.logFactorial(n, LOG_CONTEXT));
+    }
+
+    /**
+     * Returns exact combination value (see {@link Factorials#combinations(int, int)}), if calculation is admitted now,
+     * otherwise, returns approximate value with 12 significant digits without waiting.
+     * @param n - things count
+     * @param k - taken things count
+     * @return exact or approximate combination value
+     * @throws IllegalArgumentException if k &lt; 0 or n &lt; k
+     * @throws ArithmeticException if approximate value isn't representable by {@link BigDecimal} (its decimal exponent
+     * is more than {@link Integer#MAX_VALUE})
+     * @implNote Approximate value is calculated by natural logarithm of combination value ln(n!) - ln(k!) - ln((n-k)!),
+     * where logarithms of factorial values are calculated by Stirling's series in {@link BigDecimal} precision
+     */
+    public BigDecimal combinationsOrApproximation(int n, int k) {
+        Optional<BigInteger> value = tryCombinations(n, k);
+        return value.isPresent() ? new BigDecimal(value.get()) : approximation(logCombinations(n, k));
+    }
+
+    private static BigDecimal logCombinations(int n, int k) {
+        return Logarithms.logFactorial(n, LOG_CONTEXT)
+                .subtract(Logarithms.logFactorial(k, LOG_CONTEXT))
+                .subtract(Logarithms.logFactorial(n - k, LOG_CONTEXT));
+    }
+
+    /**
+     * Returns value e<sup>logValue</sup> as 10<sup>f</sup> * 10<sup>e</sup>, where e - integer part and f -
+     * fractional part of decimal logarithm of value
+     */
+    private static BigDecimal approximation(BigDecimal logValue) {
+        BigDecimal log10 = Logarithms.log(10, LOG_CONTEXT);
+        BigDecimal exponent = logValue.divide(log10, LOG_CONTEXT).setScale(0, RoundingMode.FLOOR);
+        BigDecimal mantissa = Logarithms.exp(logValue.subtract(exponent.multiply(log10)), APPROXIMATION_CONTEXT);
+        return mantissa.scaleByPowerOfTen(exponent.intValueExact());
+    }
+
+    private BigInteger admit(long bytes, Supplier<BigInteger> calculation) throws InterruptedException {
+        int required = checkBudget(bytes);
+        permits.acquire(required);
+        return calculate(required, calculation);
+    }
+
+    /**
+     * Performs admitted calculation and releases its permits
+     */
+    private <T> T calculate(int required, Supplier<T> calculation) {
+        boolean admitted = ADMITTED.get();
+        ADMITTED.set(Boolean.TRUE);
+        try {
+            return calculation.get();
+        } finally {
+            ADMITTED.set(admitted);
+            permits.release(required);
+        }
+    }
+
+    private Optional<BigInteger> tryAdmit(long bytes, Supplier<BigInteger> calculation) {
+        int required = permits(bytes);
+        if (required > maxPermits || !permits.tryAcquire(required)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(calculate(required, calculation));
+    }
+
+    private Optional<BigInteger> tryAdmit(long bytes, long timeout, TimeUnit unit, Supplier<BigInteger> calculation)
+            throws InterruptedException {
+        if (unit == null) {
+            throw new NullPointerException("Unit is null!");
+        }
+
+        int required = permits(bytes);
+        if (required > maxPermits || !permits.tryAcquire(required, timeout, unit)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(calculate(required, calculation));
+    }
+
+    private int checkBudget(long bytes) {
+        int required = permits(bytes);
+        if (required > maxPermits) {
+            throw new IllegalArgumentException(String.format(
+                    "estimated memory of calculation exceeds the budget! (estimated bytes = %d, maxBytes = %d)",
+                    bytes, maxBytes));
+        }
+
+        return required;
+    }
+
+    /**
+     * Returns memory budget in bytes
+     * @return memory budget in bytes
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /**
+     * Returns approximate count of bytes of budget, that aren't used by admitted calculations
+     * @return count of available bytes
+     */
+    public long getAvailableBytes() {
+        return Math.min(permits.availablePermits() * PERMIT_BYTES, maxBytes);
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import java.math.BigInteger;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt-in instrumentation of hot paths of the library: calculations of factorials
+ * ({@link Factorials#factorial(int, java.util.concurrent.ForkJoinPool)} and
+ * {@link Factorials#factorial(int, FactorialAlgorithm)}), combinations ({@link Factorials#combinations(int, int)}),
+ * multiplications of natural series and conversions into the factorial number system
+ * ({@link FactorialNumberSystems#decimal2IntFactorials(BigInteger)}).
+ * <p>
+ *     Instrumentation is disabled by default and can be enabled by {@link #setEnabled(boolean)} or by system property
+ *     {@value #ENABLED_PROPERTY}. If instrumentation is disabled, every instrumented call costs only one volatile read.
+ *     If instrumentation is enabled, every call of operation is recorded into the counters and the histograms of
+ *     operation (see {@link Operation}), that are based on {@link LongAdder} and don't contend under concurrent updates.
+ *     Also, if module {@code jdk.jfr} is available at runtime, every call is committed as JDK Flight Recorder event
+ *     {@code org.jdevtools.factorial.Calculation} with the operation, the arguments, bit length of result, duration of
+ *     calculations and used algorithm, so latency spikes can be attributed to specific inputs.
+ * </p>
+ * <p>
+ *     <b>This class is thread-safe.</b>
+ * </p>
+ * @author Ilnur Nasybullin
+ */
+public final class FactorialMetrics {
+
+    /**
+     * Name of system property, that enables instrumentation at startup (if it's equal to "true")
+     */
+    public final static String ENABLED_PROPERTY = "org.jdevtools.factorial.metrics";
+
+    /**
+     * Count of buckets of histograms (one bucket for every bit length of long value)
+     */
+    public final static int HISTOGRAM_BUCKETS_COUNT = Long.SIZE;
+
+    /**
+     * Instrumented operations.
+     */
+    public enum Operation {
+
+        /**
+         * Calculation of factorial value (arguments: n - digit of factorial, k = -1). Used algorithm is "productTree"
+         * for {@link Factorials#factorial(int, java.util.concurrent.ForkJoinPool)} and string representation of
+         * algorithm for {@link Factorials#factorial(int, FactorialAlgorithm)}
+         */
+        FACTORIAL,
+
+        /**
+         * Calculation of combinations (arguments: n - count of elements, k - count of chosen elements)
+         */
+        COMBINATIONS,
+
+        /**
+         * Multiplication of natural series (arguments: n - first number of series, k - number after the last number)
+         */
+        MULTIPLY_RANGE,
+
+        /**
+         * Conversion of decimal number into the factorial number system (arguments: n - bit length of number, k -
+         * count of digits)
+         */
+        DECIMAL_TO_FACTORIAL_NUMBER_SYSTEM;
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder[] durations = adders();
+        private final LongAdder[] bitLengths = adders();
+
+        private static LongAdder[] adders() {
+            LongAdder[] adders = new LongAdder[HISTOGRAM_BUCKETS_COUNT];
+            for (int i = 0; i < adders.length; i++) {
+                adders[i] = new LongAdder();
+            }
+
+            return adders;
+        }
+
+        private void reset() {
+            count.reset();
+            totalNanos.reset();
+            for (int i = 0; i < HISTOGRAM_BUCKETS_COUNT; i++) {
+                durations[i].reset();
+                bitLengths[i].reset();
+            }
+        }
+    }
+
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+
+    /**
+     * Is JDK Flight Recorder available at runtime
+     */
+    private final static boolean JFR_AVAILABLE = initFlightRecorder();
+
+    /**
+     * Private constructor for inability to create an object of this class
+     */
+    private FactorialMetrics() {}
+
+    private static boolean initFlightRecorder() {
+        try {
+            Optional<Module> jfr = ModuleLayer.boot().findModule("jdk.jfr");
+            jfr.ifPresent(FactorialMetrics.class.getModule()::addReads);
+            return jfr.isPresent();
+        } catch (RuntimeException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Enables or disables instrumentation
+     * @param enabled true, if instrumentation should be enabled
+     */
+    public static void setEnabled(boolean enabled) {
+        FactorialMetrics.enabled = enabled;
+    }
+
+    /**
+     * Returns true, if instrumentation is enabled
+     * @return true, if instrumentation is enabled
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns true, if calls of operations are committed as JDK Flight Recorder events (if instrumentation is enabled)
+     * @return true, if module {@code jdk.jfr} is available at runtime
+     */
+    public static boolean isFlightRecorderAvailable() {
+        return JFR_AVAILABLE;
+    }
+
+    /**
+     * Returns count of recorded calls of operation
+     * @param operation instrumented operation
+     * @return count of recorded calls
+     * @throws NullPointerException if operation is null
+     */
+    public static long count(Operation operation) {
+        return checkOperation(operation).count.sum();
+    }
+
+    /**
+     * Returns total duration of recorded calls of operation in nanoseconds
+     * @param operation instrumented operation
+     * @return total duration of recorded calls in nanoseconds
+     * @throws NullPointerException if operation is null
+     */
+    public static long totalNanos(Operation operation) {
+        return checkOperation(operation).totalNanos.sum();
+    }
+
+    /**
+     * Returns histogram of durations of recorded calls of operation: i-th bucket contains count of calls with duration
+     * d nanoseconds, such that bit length of d is equal to i (i.e. 2<sup>i-1</sup> &le; d &lt; 2<sup>i</sup>)
+     * @param operation instrumented operation
+     * @return histogram of durations with {@value #HISTOGRAM_BUCKETS_COUNT} buckets
+     * @throws NullPointerException if operation is null
+     */
+    public static long[] durationHistogram(Operation operation) {
+        return sums(checkOperation(operation).durations);
+    }
+
+    /**
+     * Returns histogram of bit lengths of results of recorded calls of operation: i-th bucket contains count of calls
+     * with result, which bit length has bit length i (i.e. 2<sup>i-1</sup> &le; bit length &lt; 2<sup>i</sup>)
+     * @param operation instrumented operation
+     * @return histogram of bit lengths of results with {@value #HISTOGRAM_BUCKETS_COUNT} buckets
+     * @throws NullPointerException if operation is null
+     */
+    public static long[] bitLengthHistogram(Operation operation) {
+        return sums(checkOperation(operation).bitLengths);
+    }
+
+    /**
+     * Resets counters and histograms of all operations
+     */
+    public static void reset() {
+        for (Operation operation: Operation.values()) {
+            operation.reset();
+        }
+    }
+
+    private static Operation checkOperation(Operation operation) {
+        if (operation == null) {
+            throw new NullPointerException("Operation is null!");
+        }
+
+        return operation;
+    }
+
+    private static long[] sums(LongAdder[] adders) {
+        long[] sums = new long[adders.length];
+        for (int i = 0; i < adders.length; i++) {
+            sums[i] = adders[i].sum();
+        }
+
+        return sums;
+    }
+
+    /**
+     * Starts measurement of call of instrumented operation: its start time and JDK Flight Recorder event (if it's
+     * available), which duration begins now.
+     */
+    static Measurement start() {
+        return new Measurement(System.nanoTime(), JFR_AVAILABLE ? CalculationEvent.start() : null);
+    }
+
+    /**
+     * Measurement of call of instrumented operation (see {@link #start()}).
+     */
+    static final class Measurement {
+
+        private final long startNanos;
+
+        /**
+         * Started {@link CalculationEvent} (it's declared as {@link Object}, so this class doesn't depend on module
+         * {@code jdk.jfr}) or null
+         */
+        private final Object event;
+
+        private Measurement(long startNanos, Object event) {
+            this.startNanos = startNanos;
+            this.event = event;
+        }
+
+        /**
+         * Records finished call of operation into the counters and histograms, and commits JDK Flight Recorder event
+         * (if it's available).
+         */
+        void record(Operation operation, long n, long k, long bitLength, String algorithm) {
+            long nanos = Math.max(System.nanoTime() - startNanos, 0L);
+            operation.count.increment();
+            operation.totalNanos.add(nanos);
+            operation.durations[bucket(nanos)].increment();
+            operation.bitLengths[bucket(bitLength)].increment();
+
+            if (event != null) {
+                ((CalculationEvent) event).finish(operation.name(), n, k, bitLength, algorithm);
+            }
+        }
+    }
+
+    private static int bucket(long value) {
+        return Math.min(Long.SIZE - Long.numberOfLeadingZeros(value), HISTOGRAM_BUCKETS_COUNT - 1);
+    }
+}
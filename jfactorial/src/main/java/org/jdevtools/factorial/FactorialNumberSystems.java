@@ -0,0 +1,424 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jdevtools.factorial;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Utility class for converting numbers from decimal number system to
+ * <a href=https://en.wikipedia.org/wiki/Factorial_number_system>factorial number system</a>.
+ * <p>
+ *     <b>This class is thread-safe,</b> because it's not possible to construct object of this class, and this class hasn't
+ *     anything states.
+ * </p>
+ * @author Ilnur Nasybullin
+ */
+public class FactorialNumberSystems {
+
+    /**
+     * Count of digit positions, that are converted without splitting
+     */
+    private final static int LEAF_DIGITS_COUNT = 32;
+
+    /**
+     * Minimal count of digit positions, for which number in the factorial number system can overflow long type
+     */
+    private final static int LONG_DIGITS_COUNT = 20;
+
+    /**
+     * Minimal count of digit positions, for which halves of value are converted in parallel
+     */
+    private final static int PARALLEL_DIGITS_COUNT = 1 << 10;
+
+    /**
+     * Private constructor for the inability to construct an object of this class.
+     */
+    private FactorialNumberSystems() {}
+
+    /**
+     * Return array of positive numbers, that uniquely represent a decimal number in the
+     * <a href=https://en.wikipedia.org/wiki/Factorial_number_system>factorial number system</a>. Every <i>i</i>-th element
+     * of array represents digit in (<i>i+1</i>)-th position of number in
+     * <a href=https://en.wikipedia.org/wiki/Factorial_number_system>factorial number system</a>. For example:
+     * <p>
+     *     10<sub>10</sub> = 1 * 3! + 2 * 2! + 0 * 1! + 0 * 0! = 1200<sub>Fact</sub>
+     * </p>, and for this number will be returned array: [1, 2, 0] (digit for 0! position is skipped because it's always equal to 0).
+     * For 0<sub>10</sub> will be returned empty array.
+     * @param value decimal number
+     * @return array of positive numbers that uniquely represent number in the
+     * <a href=https://en.wikipedia.org/wiki/Factorial_number_system>factorial number system</a>
+     * @throws NullPointerException if value is null
+     * @apiNote
+     * <ol>
+     *     <li>Positive factorial numbers, except for the absence of negative sign for every digit, don't differ in any
+     *     way from negative factorial numbers (-10<sub>10</sub> = -1 * 3! - 2 * 2! - 0 * 1! - 0 * 0! =
+     *     = -(1 * 3! + 2 * 2! + 0 * 1! + 0 * 0!) = -1200<sub>Fact</sub></li>
+     *     <li>From a technical point of view, array is the remainders of the division by 2, 3, 4 and so on until the value
+     *     is reset to zero, i.e. every <i>i</i>-th element of array is the remainder of the division by (<i>i+2</i>)-th</li>
+     * </ol>
+     * @implNote Value is converted by the divide-and-conquer method: value is divided by the product of radices of the
+     * lower half of digit positions, and the remainder and the quotient are converted recursively. When value fits into
+     * long type, the remaining digits are calculated over long type variable
+     */
+    public static int[] decimal2IntFactorials(BigInteger value) {
+        if (value == null) {
+            throw new NullPointerException("Value is null!");
+        }
+
+        return convert(value, null);
+    }
+
+    /**
+     * Return array of positive numbers, that uniquely represent a decimal number in the
+     * <a href=https://en.wikipedia.org/wiki/Factorial_number_system>factorial number system</a>
+     * (see {@link #decimal2IntFactorials(BigInteger)}). Large values are converted in parallel in the pool.
+     * @param value decimal number
+     * @param pool pool for parallel conversion
+     * @return array of positive numbers that uniquely represent number in the
+     * <a href=https://en.wikipedia.org/wiki/Factorial_number_system>factorial number system</a>
+     * @throws NullPointerException if value or pool is null
+     */
+    public static int[] decimal2IntFactorials(BigInteger value, ForkJoinPool pool) {
+        if (value == null) {
+            throw new NullPointerException("Value is null!");
+        }
+
+        if (pool == null) {
+            throw new NullPointerException("Pool is null!");
+        }
+
+        return convert(value, pool);
+    }
+
+    /**
+     * Return array of positive numbers, that uniquely represent a decimal number of long type in the
+     * <a href=https://en.wikipedia.org/wiki/Factorial_number_system>factorial number system</a>
+     * (see {@link #decimal2IntFactorials(BigInteger)}). Array contains not more than 20 elements.
+     * @param value decimal number
+     * @return array of positive numbers that uniquely represent number in the
+     * <a href=https://en.wikipedia.org/wiki/Factorial_number_system>factorial number system</a>
+     * @implNote Digits are calculated over long type variable without any allocations, except for the returned array
+     */
+    public static int[] decimal2IntFactorials(long value) {
+        int[] digits = new int[longDigitsCount(value)];
+        fillDigits(value, digits, digits.length);
+        return digits;
+    }
+
+    /**
+     * Writes digits, that uniquely represent a decimal number of long type in the
+     * <a href=https://en.wikipedia.org/wiki/Factorial_number_system>factorial number system</a>
+     * (see {@link #decimal2IntFactorials(BigInteger)}), into the beginning of buffer. Buffer of length 20 is enough for
+     * any value of long type.
+     * @param value decimal number
+     * @param buffer buffer for digits
+     * @return count of written digits
+     * @throws NullPointerException if buffer is null
+     * @throws IllegalArgumentException if buffer's length is less than count of digits
+     * @implNote Digits are calculated over long type variable without any allocations
+     */
+    public static int decimal2IntFactorials(long value, int[] buffer) {
+        if (buffer == null) {
+            throw new NullPointerException("Buffer is null!");
+        }
+
+        int count = longDigitsCount(value);
+        checkBuffer(buffer, count);
+        fillDigits(value, buffer, count);
+        return count;
+    }
+
+    /**
+     * Writes digits, that uniquely represent a decimal number in the
+     * <a href=https://en.wikipedia.org/wiki/Factorial_number_system>factorial number system</a>
+     * (see {@link #decimal2IntFactorials(BigInteger)}), into the beginning of buffer.
+     * @param value decimal number
+     * @param buffer buffer for digits
+     * @return count of written digits
+     * @throws NullPointerException if value or buffer is null
+     * @throws IllegalArgumentException if buffer's length is less than count of digits
+     * @implNote If value fits into long type, digits are calculated without any allocations
+     * (see {@link #decimal2IntFactorials(long, int[])})
+     */
+    public static int decimal2IntFactorials(BigInteger value, int[] buffer) {
+        if (value == null) {
+            throw new NullPointerException("Value is null!");
+        }
+
+        if (buffer == null) {
+            throw new NullPointerException("Buffer is null!");
+        }
+
+        if (value.bitLength() < Long.SIZE) {
+            return decimal2IntFactorials(value.longValue(), buffer);
+        }
+
+        int[] digits = convert(value, null);
+        checkBuffer(buffer, digits.length);
+        System.arraycopy(digits, 0, buffer, 0, digits.length);
+        return digits.length;
+    }
+
+    private static void checkBuffer(int[] buffer, int count) {
+        if (buffer.length < count) {
+            throw new IllegalArgumentException(String.format(
+                    "buffer's length is less than count of digits! (length = %d, count = %d)", buffer.length, count));
+        }
+    }
+
+    /**
+     * Returns count of digits n of value, i.e. max digit n, such that n! isn't more than absolute value
+     */
+    private static int longDigitsCount(long value) {
+        long negative = value > 0L ? -value : value;
+        int count = 0;
+        while (count < Factorials.maxLongFactorialDigit() && negative <= -Factorials.longFactorialValue(count + 1)) {
+            count++;
+        }
+
+        return count;
+    }
+
+    /**
+     * Writes count of digits of value into array. Remainders and quotients of division of negative value are
+     * negative (or zero), so the value is divided without taking of absolute value
+     */
+    private static void fillDigits(long value, int[] digits, int count) {
+        for (int i = 0; i < count; i++) {
+            long divider = i + 2;
+            digits[i] = (int) (value % divider);
+            value /= divider;
+        }
+    }
+
+    /**
+     * Converts value by the divide-and-conquer method (and, if pool isn't null, in parallel). Instead of full-length
+     * division for every digit position only O(log n) levels of balanced {@link BigInteger} divisions are performed.
+     */
+    private static int[] convert(BigInteger value, ForkJoinPool pool) {
+        if (!FactorialMetrics.isEnabled()) {
+            return convertValue(value, pool);
+        }
+
+        FactorialMetrics.Measurement measurement = FactorialMetrics.start();
+        int[] digits = convertValue(value, pool);
+        String algorithm = value.bitLength() < Long.SIZE ? "long"
+                : pool != null && digits.length >= PARALLEL_DIGITS_COUNT ? "parallelDivideAndConquer"
+                : "divideAndConquer";
+        measurement.record(FactorialMetrics.Operation.DECIMAL_TO_FACTORIAL_NUMBER_SYSTEM, value.bitLength(),
+                digits.length, value.bitLength(), algorithm);
+        return digits;
+    }
+
+    private static int[] convertValue(BigInteger value, ForkJoinPool pool) {
+        if (value.bitLength() < Long.SIZE) {
+            return decimal2IntFactorials(value.longValue());
+        }
+
+        BigInteger dividend = value.abs();
+        int length = digitsCount(dividend.bitLength());
+        int[] digits = new int[length];
+
+        if (pool != null && length >= PARALLEL_DIGITS_COUNT) {
+            pool.invoke(new ConversionTask(dividend, 0, length, digits));
+        } else {
+            convert(dividend, 0, length, digits);
+        }
+
+        while (length > 0 && digits[length - 1] == 0) {
+            length--;
+        }
+
+        if (value.signum() < 0) {
+            for (int i = 0; i < length; i++) {
+                digits[i] = -digits[i];
+            }
+        }
+
+        return length == digits.length ? digits : Arrays.copyOf(digits, length);
+    }
+
+    /**
+     * Returns count of digit positions n, such that any number with given bit length is less than (n+1)!
+     */
+    private static int digitsCount(int bitLength) {
+        double log2 = Math.log(2);
+        double factorialBits = 0.0;
+        int count = 0;
+        while (factorialBits < bitLength + 1) {
+            factorialBits += Math.log(count + 2) / log2;
+            count++;
+        }
+
+        return count;
+    }
+
+    private static void convert(BigInteger dividend, int lo, int hi, int[] digits) {
+        if (dividend.bitLength() < Long.SIZE) {
+            convert(dividend.longValue(), lo, digits);
+            return;
+        }
+
+        if (hi - lo <= LEAF_DIGITS_COUNT) {
+            int i = lo;
+            while (dividend.bitLength() >= Long.SIZE) {
+                BigInteger[] quotientAndRemainder = dividend.divideAndRemainder(BigInteger.valueOf(i + 2));
+                digits[i++] = quotientAndRemainder[1].intValue();
+                dividend = quotientAndRemainder[0];
+            }
+
+            convert(dividend.longValue(), i, digits);
+            return;
+        }
+
+        int middle = (lo + hi) >>> 1;
+        BigInteger[] quotientAndRemainder = dividend.divideAndRemainder(ProductTree.product(lo + 2, middle + 2));
+        convert(quotientAndRemainder[1], lo, middle, digits);
+        convert(quotientAndRemainder[0], middle, hi, digits);
+    }
+
+    private static void convert(long dividend, int lo, int[] digits) {
+        for (int i = lo; dividend != 0L; i++) {
+            long divider = i + 2;
+            digits[i] = (int) (dividend % divider);
+            dividend /= divider;
+        }
+    }
+
+    /**
+     * Returns decimal number, that is represented by array of digits in the
+     * <a href=https://en.wikipedia.org/wiki/Factorial_number_system>factorial number system</a>. Every <i>i</i>-th element
+     * of array represents digit in (<i>i+1</i>)-th position of number (see {@link #decimal2IntFactorials(BigInteger)}),
+     * i.e. this method is the inverse of method {@link #decimal2IntFactorials(BigInteger)}. For example, for array
+     * [0, 2, 1] will be returned 0 * 1! + 2 * 2! + 1 * 3! = 10<sub>10</sub>.
+     * @param digits digits of number in the factorial number system
+     * @return decimal number
+     * @throws NullPointerException if digits is null
+     * @throws IllegalArgumentException if absolute value of <i>i</i>-th digit is more than <i>i+1</i>
+     * @implNote Large arrays are evaluated by the balanced splitting: value of higher half of digits is multiplied by
+     * the ratio m!/k! of weights of the first digits of halves and is added to the value of lower half. Thus, instead of
+     * the linear chain of multiplications of huge number by small one, the operands of multiplications have
+     * approximately the same length
+     */
+    public static BigInteger intFactorials2Decimal(int[] digits) {
+        checkDigits(digits);
+
+        if (digits.length < LONG_DIGITS_COUNT) {
+            return BigInteger.valueOf(evaluate(digits));
+        }
+
+        return evaluate(digits, 0, digits.length)[0];
+    }
+
+    /**
+     * Returns decimal number of long type, that is represented by array of digits in the
+     * <a href=https://en.wikipedia.org/wiki/Factorial_number_system>factorial number system</a>
+     * (see {@link #intFactorials2Decimal(int[])}).
+     * @param digits digits of number in the factorial number system
+     * @return decimal number
+     * @throws NullPointerException if digits is null
+     * @throws IllegalArgumentException if absolute value of <i>i</i>-th digit is more than <i>i+1</i>
+     * @throws ArithmeticException if number overflows long type
+     */
+    public static long intFactorials2Long(int[] digits) {
+        checkDigits(digits);
+        return evaluate(digits);
+    }
+
+    private static void checkDigits(int[] digits) {
+        if (digits == null) {
+            throw new NullPointerException("Digits are null!");
+        }
+
+        for (int i = 0; i < digits.length; i++) {
+            if (Math.abs((long) digits[i]) > i + 1) {
+                throw new IllegalArgumentException(String.format(
+                        "digit is out of range! (digits[%d] = %d, but max absolute value is %d)", i, digits[i], i + 1));
+            }
+        }
+    }
+
+    private static long evaluate(int[] digits) {
+        long result = 0L;
+        for (int i = digits.length - 1; i >= 0; i--) {
+            result = Math.addExact(Math.multiplyExact(result, i + 2), digits[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns array of two values: the value of digits from lo to hi (exclusive) in relation to the weight (lo+1)! of
+     * the first digit, and the ratio (hi+1)!/(lo+1)!
+     */
+    private static BigInteger[] evaluate(int[] digits, int lo, int hi) {
+        if (hi - lo <= LEAF_DIGITS_COUNT) {
+            BigInteger value = BigInteger.ZERO;
+            for (int i = hi - 1; i >= lo; i--) {
+                value = value.multiply(BigInteger.valueOf(i + 2)).add(BigInteger.valueOf(digits[i]));
+            }
+
+            return new BigInteger[]{value, ProductTree.product(lo + 2, hi + 2)};
+        }
+
+        int middle = (lo + hi) >>> 1;
+        BigInteger[] lower = evaluate(digits, lo, middle);
+        BigInteger[] higher = evaluate(digits, middle, hi);
+
+        return new BigInteger[]{
+                higher[0].multiply(lower[1]).add(lower[0]),
+                higher[1].multiply(lower[1])
+        };
+    }
+
+    /**
+     * Task for parallel conversion of value (see {@link #decimal2IntFactorials(BigInteger, ForkJoinPool)})
+     */
+    private static class ConversionTask extends RecursiveAction {
+
+        private final BigInteger dividend;
+        private final int lo;
+        private final int hi;
+        private final int[] digits;
+
+        private ConversionTask(BigInteger dividend, int lo, int hi, int[] digits) {
+            this.dividend = dividend;
+            this.lo = lo;
+            this.hi = hi;
+            this.digits = digits;
+        }
+
+        @Override
+        protected void compute() {
+            if (hi - lo < PARALLEL_DIGITS_COUNT || dividend.bitLength() < Long.SIZE) {
+                convert(dividend, lo, hi, digits);
+                return;
+            }
+
+            int middle = (lo + hi) >>> 1;
+            BigInteger[] quotientAndRemainder = dividend.divideAndRemainder(ProductTree.product(lo + 2, middle + 2));
+            invokeAll(
+                    new ConversionTask(quotientAndRemainder[1], lo, middle, digits),
+                    new ConversionTask(quotientAndRemainder[0], middle, hi, digits)
+            );
+        }
+    }
+
+}
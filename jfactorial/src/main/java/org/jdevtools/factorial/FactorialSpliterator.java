@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import java.math.BigInteger;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over factorials of digits from origin to fence (exclusive) (see
+ * {@link Factorials#factorialStream(int, int)}). Every next factorial is calculated from the previous one by the
+ * multiplication by small number. Spliterator is split by ranges of digits, and the first factorial of every part is
+ * calculated by binary splitting only at the beginning of traversal.
+ * @author Ilnur Nasybullin
+ */
+final class FactorialSpliterator implements Spliterator<BigInteger> {
+
+    private int origin;
+    private final int fence;
+    private BigInteger current;
+
+    FactorialSpliterator(int origin, int fence) {
+        this.origin = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super BigInteger> action) {
+        if (action == null) {
+            throw new NullPointerException("Action is null!");
+        }
+
+        if (origin >= fence) {
+            return false;
+        }
+
+        action.accept(next());
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super BigInteger> action) {
+        if (action == null) {
+            throw new NullPointerException("Action is null!");
+        }
+
+        while (origin < fence) {
+            action.accept(next());
+        }
+    }
+
+    private BigInteger next() {
+        current = current == null ? Factorials.factorial(origin) : current.multiply(BigInteger.valueOf(origin));
+        origin++;
+        return current;
+    }
+
+    @Override
+    public Spliterator<BigInteger> trySplit() {
+        if (current != null || fence - origin < 2) {
+            return null;
+        }
+
+        int middle = (origin + fence) >>> 1;
+        Spliterator<BigInteger> prefix = new FactorialSpliterator(origin, middle);
+        origin = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - origin;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+    }
+}
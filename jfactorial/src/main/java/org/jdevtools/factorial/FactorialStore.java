@@ -0,0 +1,372 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent store of factorial values. Values are saved into the file once (see {@link #write(Path, int...)}) and
+ * then are read through memory-mapped {@link FileChannel} (see {@link #open(Path)}), so the restart of application
+ * only decodes values instead of recalculating them.
+ * <p>
+ *     File format (all numbers are written in big-endian byte order):
+ * </p>
+ * <pre>
+ *     header (16 bytes):
+ *         int   magic      - 0x4A465354 ("JFST")
+ *         int   version    - 1
+ *         int   count      - count of stored values
+ *         int   indexCrc   - CRC32 checksum of index
+ *     index (count * 20 bytes, entries are sorted by digit in ascending order):
+ *         int   n          - digit of factorial
+ *         int   wordCount  - count of 32-bit words of magnitude of n!
+ *         long  offset     - offset of magnitude from the start of file
+ *         int   crc        - CRC32 checksum of magnitude
+ *     data:
+ *         magnitudes of values - wordCount 32-bit words of every value from the most significant word
+ * </pre>
+ * <p>
+ *     Header and index are verified, when store is opened, and every magnitude is verified by its checksum, when
+ *     value is decoded. Store can be used as a lookup tier of factorial calculations (see {@link #factorial(int)}),
+ *     also as {@link FactorialAlgorithm} - {@code Factorials.factorial(n, store::factorial)}.
+ * </p>
+ * <p>
+ *     <b>This class is thread-safe.</b>
+ * </p>
+ * @author Ilnur Nasybullin
+ */
+public final class FactorialStore implements Closeable {
+
+    /**
+     * Magic number of the store file ("JFST")
+     */
+    private final static int MAGIC = 0x4A465354;
+
+    /**
+     * Version of the store file format
+     */
+    private final static int VERSION = 1;
+
+    /**
+     * Length of header of the store file (in bytes)
+     */
+    private final static int HEADER_LENGTH = 16;
+
+    /**
+     * Length of index entry of the store file (in bytes)
+     */
+    private final static int ENTRY_LENGTH = 20;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final ForkJoinPool pool;
+
+    private final int[] digits;
+    private final int[] wordCounts;
+    private final long[] offsets;
+    private final int[] checksums;
+
+    private FactorialStore(Path path, FileChannel channel, ForkJoinPool pool, int[] digits, int[] wordCounts,
+                           long[] offsets, int[] checksums) {
+        this.path = path;
+        this.channel = channel;
+        this.pool = pool;
+        this.digits = digits;
+        this.wordCounts = wordCounts;
+        this.offsets = offsets;
+        this.checksums = checksums;
+    }
+
+    /**
+     * Calculates factorial values of digits (see {@link Factorials#factorials(int[])}) and writes them into the file.
+     * If file exists, it will be overwritten.
+     * @param path path of the store file
+     * @param ns digits of factorials (in any order, maybe with repetitions)
+     * @throws IOException if an I/O error occurs
+     * @throws IllegalArgumentException if any digit is negative
+     * @throws NullPointerException if path or ns is null
+     */
+    public static void write(Path path, int... ns) throws IOException {
+        if (path == null) {
+            throw new NullPointerException("Path is null!");
+        }
+
+        BigInteger[] values = Factorials.factorials(ns);
+        int[] sortedDigits = ns.clone();
+        Arrays.sort(sortedDigits);
+        int count = 0;
+        for (int digit: sortedDigits) {
+            if (count == 0 || sortedDigits[count - 1] != digit) {
+                sortedDigits[count++] = digit;
+            }
+        }
+
+        BigInteger[] sortedValues = new BigInteger[count];
+        for (int i = 0; i < ns.length; i++) {
+            sortedValues[Arrays.binarySearch(sortedDigits, 0, count, ns[i])] = values[i];
+        }
+
+        ByteBuffer index = ByteBuffer.allocate(count * ENTRY_LENGTH);
+        CRC32 crc = new CRC32();
+        long offset = HEADER_LENGTH + (long) count * ENTRY_LENGTH;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.position(offset);
+            for (int i = 0; i < count; i++) {
+                byte[] magnitude = magnitude(sortedValues[i]);
+                crc.reset();
+                crc.update(magnitude);
+
+                index.putInt(sortedDigits[i])
+                        .putInt(magnitude.length / Integer.BYTES)
+                        .putLong(offset)
+                        .putInt((int) crc.getValue());
+
+                writeFully(channel, ByteBuffer.wrap(magnitude), offset);
+                offset += magnitude.length;
+            }
+
+            index.flip();
+            crc.reset();
+            crc.update(index.duplicate());
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(count)
+                    .putInt((int) crc.getValue());
+            header.flip();
+
+            writeFully(channel, header, 0L);
+            writeFully(channel, index, HEADER_LENGTH);
+        }
+    }
+
+    private static byte[] magnitude(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        byte[] magnitude = new byte[((value.bitLength() + Integer.SIZE - 1) / Integer.SIZE) * Integer.BYTES];
+        int length = Math.min(bytes.length, magnitude.length);
+        System.arraycopy(bytes, bytes.length - length, magnitude, magnitude.length - length, length);
+        return magnitude;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Opens the store file, that calculates not stored factorial values in the {@link ForkJoinPool#commonPool()}.
+     * @param path path of the store file
+     * @return opened store
+     * @throws IOException if an I/O error occurs or the file is corrupted (has invalid header or index)
+     * @throws NullPointerException if path is null
+     */
+    public static FactorialStore open(Path path) throws IOException {
+        return open(path, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Opens the store file, that calculates not stored factorial values in the pool.
+     * @param path path of the store file
+     * @param pool pool for parallel multiplication
+     * @return opened store
+     * @throws IOException if an I/O error occurs or the file is corrupted (has invalid header or index)
+     * @throws NullPointerException if path or pool is null
+     */
+    public static FactorialStore open(Path path, ForkJoinPool pool) throws IOException {
+        if (path == null) {
+            throw new NullPointerException("Path is null!");
+        }
+
+        if (pool == null) {
+            throw new NullPointerException("Pool is null!");
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return read(path, channel, pool);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static FactorialStore read(Path path, FileChannel channel, ForkJoinPool pool) throws IOException {
+        long size = channel.size();
+        if (size < HEADER_LENGTH) {
+            throw corrupted(path, "header is truncated");
+        }
+
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0L, HEADER_LENGTH);
+        if (header.getInt() != MAGIC) {
+            throw corrupted(path, "magic number is invalid");
+        }
+
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw corrupted(path, String.format("version %d isn't supported", version));
+        }
+
+        int count = header.getInt();
+        int indexCrc = header.getInt();
+        if (count < 0 || HEADER_LENGTH + (long) count * ENTRY_LENGTH > size) {
+            throw corrupted(path, String.format("index is truncated (count = %d)", count));
+        }
+
+        ByteBuffer index = channel.map(FileChannel.MapMode.READ_ONLY, HEADER_LENGTH, (long) count * ENTRY_LENGTH);
+        CRC32 crc = new CRC32();
+        crc.update(index.duplicate());
+        if ((int) crc.getValue() != indexCrc) {
+            throw corrupted(path, "checksum of index is invalid");
+        }
+
+        int[] digits = new int[count];
+        int[] wordCounts = new int[count];
+        long[] offsets = new long[count];
+        int[] checksums = new int[count];
+        for (int i = 0; i < count; i++) {
+            digits[i] = index.getInt();
+            wordCounts[i] = index.getInt();
+            offsets[i] = index.getLong();
+            checksums[i] = index.getInt();
+
+            if (digits[i] < 0 || (i > 0 && digits[i] <= digits[i - 1])) {
+                throw corrupted(path, String.format("digits of index aren't sorted (n = %d)", digits[i]));
+            }
+
+            if (wordCounts[i] < 0 || offsets[i] < 0
+                    || offsets[i] + (long) wordCounts[i] * Integer.BYTES > size) {
+                throw corrupted(path, String.format("value of %d! is truncated", digits[i]));
+            }
+        }
+
+        return new FactorialStore(path, channel, pool, digits, wordCounts, offsets, checksums);
+    }
+
+    private static IOException corrupted(Path path, String reason) {
+        return new IOException(String.format("Factorial store is corrupted: %s! (path = %s)", reason, path));
+    }
+
+    /**
+     * Returns stored {@link BigInteger} representative of factorial digit. If value of digit isn't stored, will be
+     * returned {@link Optional#empty()} object.
+     * @param n digit of factorial
+     * @return {@link Optional} object with stored factorial value, if it's exist, or {@link Optional#empty()} object
+     * @throws IllegalArgumentException if n is negative
+     * @throws UncheckedIOException if an I/O error occurs or checksum of value is invalid
+     */
+    public Optional<BigInteger> get(int n) {
+        checkOnNegative(n);
+        int i = Arrays.binarySearch(digits, n);
+        return i < 0 ? Optional.empty() : Optional.of(decode(i));
+    }
+
+    /**
+     * Returns {@link BigInteger} representative of factorial digit. If value of digit isn't stored, it's calculated
+     * by the multiplication of the nearest lower stored value by natural series from the stored digit to n
+     * (see {@link Factorials#factorial(int, ForkJoinPool)}).
+     * @param n digit of factorial
+     * @return {@link BigInteger} factorial value
+     * @throws IllegalArgumentException if n is negative
+     * @throws UncheckedIOException if an I/O error occurs or checksum of the decoded value is invalid
+     */
+    public BigInteger factorial(int n) {
+        checkOnNegative(n);
+        int i = Arrays.binarySearch(digits, n);
+        if (i >= 0) {
+            return decode(i);
+        }
+
+        int floor = -i - 2;
+        if (floor < 0 || digits[floor] <= Factorials.maxLongFactorialDigit()) {
+            return Factorials.factorial(n, pool);
+        }
+
+        return decode(floor).multiply(ProductTree.product(digits[floor] + 1, n + 1, pool));
+    }
+
+    private static void checkOnNegative(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException(String.format("digit is negative number! (n = %d)", n));
+        }
+    }
+
+    private BigInteger decode(int i) {
+        try {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offsets[i],
+                    (long) wordCounts[i] * Integer.BYTES);
+            CRC32 crc = new CRC32();
+            crc.update(buffer.duplicate());
+            if ((int) crc.getValue() != checksums[i]) {
+                throw corrupted(path, String.format("checksum of %d! is invalid", digits[i]));
+            }
+
+            byte[] magnitude = new byte[buffer.remaining()];
+            buffer.get(magnitude);
+            return new BigInteger(1, magnitude);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Returns stored digits in ascending order
+     * @return stored digits
+     */
+    public int[] getDigits() {
+        return digits.clone();
+    }
+
+    /**
+     * Returns count of stored values
+     * @return count of stored values
+     */
+    public int size() {
+        return digits.length;
+    }
+
+    /**
+     * Returns path of the store file
+     * @return path of the store file
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Closes the store file. Values, that were decoded before, remain valid.
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -0,0 +1,1128 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jdevtools.factorial;
+
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Utility class for calculating factorials. <b>This class is thread-safe</b>, because it's not possible to create an object
+ * this class (see {@link #Factorials()}) and all methods of this class are static and don't change states of class members
+ * @author Ilnur Nasybullin
+ */
+public final class Factorials {
+
+    /**
+     * All long factorials values (n!, n &isin [0...20])
+     */
+    private final static long[] factorials = {
+            1L, 1L, 2L, 6L, 24L, 120L, 720L, 5_040L, 40_320L, 362_880L, 3_628_800L, 39_916_800L, 479_001_600L,
+            6_227_020_800L, 87_178_291_200L, 1_307_674_368_000L, 20_922_789_888_000L, 355_687_428_096_000L,
+            6_402_373_705_728_000L, 121_645_100_408_832_000L, 2_432_902_008_176_640_000L
+    };
+
+    /**
+     * Maximal factorial digit, that can be calculated, using class {@link BigInteger}. This value has been calculated
+     * with method {@link #calcMaxBigIntegerFactorialDigit()}.
+     * @implNote This value has been calculated based on the knowledge of the internal representation of class
+     * {@link BigInteger}. In JavaDoc for class {@link BigInteger} written that object of class {@link BigInteger} can
+     * represent number in the range -2<sup>{@link Integer#MAX_VALUE}</sup> (exclusive) to 2<sup>{@link Integer#MAX_VALUE}</sup>
+     * (exclusive). It's mean, that in binary representation maximal factorial value can have up to {@link Integer#MAX_VALUE}
+     * (exclusive) bits. Method {@link #calcMaxBigIntegerFactorialDigit()} calculate maximal factorial value by counting
+     * the number of bits required for representation for factorial value.
+     * <p>
+     *     On practice, this value is optimistic for two reasons:
+     *     <ol>
+     *        <li>For the calculating this factorial value is needed to create array of bytes length &asymp
+     *        {@link Integer#MAX_VALUE} / 8 (2<sup>28</sup>). For the different JVM is might need to allocate more memory
+     *        in heap (otherwise, error {@link OutOfMemoryError} is thrown)</li>
+     *        <li>For the calculating this factorial value is might take a very long time (see {@link #factorial(int)})</li>
+     *     </ol>
+     * </p>
+     * @since 9
+     * @see BigInteger
+     * @see #calcMaxBigIntegerFactorialDigit()
+     */
+    private final static int MAX_BIGINTEGER_FACTORIAL_DIGIT = 86_181_406;
+
+    /**
+     * Maximal n, for which all combinations C(n,k) fit into long (C(66,33) &lt; 2<sup>63</sup> &lt; C(67,33))
+     */
+    private final static int MAX_LONG_COMBINATIONS_N = 66;
+
+    /**
+     * Pascal's triangle of all long combinations C(n,k) (n &le; {@link #MAX_LONG_COMBINATIONS_N}, k &le; n/2)
+     */
+    private final static long[][] combinations = pascalTriangle();
+
+    /**
+     * Minimal value of min(k, n-k), for which combination C(n,k) is calculated by factorization by prime numbers
+     * (see {@link #combinations(int, int)})
+     */
+    private final static int MIN_PRIME_COMBINATIONS_DIGIT = 128;
+
+    /**
+     * Maximal ratio n / min(k, n-k), for which combination C(n,k) is calculated by factorization by prime numbers
+     * (see {@link #combinations(int, int)}). For lesser values of min(k, n-k) sieving of prime numbers up to n is more
+     * expensive than division
+     */
+    private final static int PRIME_COMBINATIONS_RATIO = 64;
+
+    /**
+     * Last non-zero digits of n! for n &isin; [0...4]
+     */
+    private final static int[] LAST_NON_ZERO_DIGITS = {1, 1, 2, 6, 4};
+
+    /**
+     * Last digits of 2<sup>e</sup> for e mod 4 (e &gt; 0)
+     */
+    private final static int[] POWER_OF_TWO_LAST_DIGITS = {6, 2, 4, 8};
+
+    /**
+     * Natural logarithm of 2
+     */
+    private final static double LOG_2 = Math.log(2);
+
+    /**
+     * Natural logarithm of 10
+     */
+    private final static double LOG_10 = Math.log(10);
+
+    /**
+     * ln(2&pi;)/2 - constant term of Stirling's series
+     */
+    private final static double LOG_SQRT_2PI = 0.5 * Math.log(2 * Math.PI);
+
+    /**
+     * Upper bound of relative error of binary and decimal logarithms of factorial value, that are calculated by
+     * {@link #logFactorial(int)} (about 18 ulps)
+     */
+    private final static double LOG_RELATIVE_ERROR = 4e-15;
+
+    /**
+     * Upper bound of absolute error of binary and decimal logarithms of factorial value, that is independent of its
+     * magnitude (remainder of Stirling's series, see {@link #logFactorial(int)})
+     */
+    private final static double LOG_ABSOLUTE_ERROR = 1e-12;
+
+    /**
+     * Context of logarithms of factorial value, when precision of type double isn't enough (see
+     * {@link #factorialBitLength(int)})
+     */
+    private final static MathContext PRECISE_LOG_CONTEXT = new MathContext(50);
+
+    /**
+     * Private constructor for inability to create an object of this class
+     */
+    private Factorials() {}
+
+    /**
+     * Returns long representative of factorial digit. If digit &lt; 21 (fits into long) will be returned {@link Optional} object
+     * with factorial value inside, otherwise, will be returned {@link Optional#empty()} object
+     * @param n digit of factorial
+     * @return {@link Optional} object with long factorial value, if it's exist, or {@link Optional#empty()} object
+     * @throws IllegalArgumentException if n is negative number
+     */
+    public static Optional<Long> longFactorial(int n) {
+        checkOnNegative(n, String.format("digit is negative number! (n = %d)", n));
+        return n < factorials.length ? Optional.of(factorials[n]) : Optional.empty();
+    }
+
+    private static void checkOnNegative(int n, String errorMessage) {
+        if (n < 0) {
+            throw new IllegalArgumentException(errorMessage);
+        }
+    }
+
+    /**
+     * Returns {@link BigInteger} representative of factorial digit.
+     * @param n digit of factorial
+     * @return {@link BigInteger} factorial value
+     * @throws IllegalArgumentException if n is negative or estimated memory of calculation exceeds the budget of the
+     * global governor, when admission is enforced (see {@link FactorialGovernor#setEnforced(boolean)})
+     * @implNote For calculating is used parallel multiplication with partition of natural series from 21 to n
+     * (see {@link #factorial(int, ForkJoinPool)}) in the {@link ForkJoinPool#commonPool()}
+     */
+    public static BigInteger factorial(int n) {
+        return factorial(n, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns {@link BigInteger} representative of factorial digit, that is calculated in the pool.
+     * @param n digit of factorial
+     * @param pool pool for parallel multiplication
+     * @return {@link BigInteger} factorial value
+     * @throws IllegalArgumentException if n is negative or estimated memory of calculation exceeds the budget of the
+     * global governor, when admission is enforced (see {@link FactorialGovernor#setEnforced(boolean)})
+     * @throws NullPointerException if pool is null
+     * @implNote For calculating is used balanced binary splitting of natural series from 21 to n: the series is divided
+     * into two halves, that are multiplied recursively (and in parallel, if series is long enough) and only then the
+     * results are multiplied. Short parts of series are multiplied over long type variable. Such partition makes the
+     * operands of every {@link BigInteger} multiplication to have approximately the same length, that allows to use
+     * Karatsuba and Toom-Cook multiplication algorithms
+     */
+    public static BigInteger factorial(int n, ForkJoinPool pool) {
+        checkOnNegative(n, String.format("digit is negative number! (n = %d)", n));
+        if (pool == null) {
+            throw new NullPointerException("Pool is null!");
+        }
+
+        if (n < factorials.length) {
+            return BigInteger.valueOf(factorials[n]);
+        }
+
+        if (FactorialGovernor.isEnforced()) {
+            return FactorialGovernor.enforce(FactorialGovernor.estimateFactorialBytes(n),
+                    () -> recordedProductTreeFactorial(n, pool));
+        }
+
+        return recordedProductTreeFactorial(n, pool);
+    }
+
+    private static BigInteger recordedProductTreeFactorial(int n, ForkJoinPool pool) {
+        if (!FactorialMetrics.isEnabled()) {
+            return productTreeFactorial(n, pool);
+        }
+
+        FactorialMetrics.Measurement measurement = FactorialMetrics.start();
+        BigInteger value = productTreeFactorial(n, pool);
+        measurement.record(FactorialMetrics.Operation.FACTORIAL, n, -1L, value.bitLength(), "productTree");
+        return value;
+    }
+
+    /**
+     * Returns factorial value, that is calculated by balanced binary splitting without instrumentation
+     * @param n digit of factorial, that is more than {@link #maxLongFactorialDigit()}
+     * @param pool pool for parallel multiplication
+     * @return {@link BigInteger} factorial value
+     */
+    static BigInteger productTreeFactorial(int n, ForkJoinPool pool) {
+        int k = maxLongFactorialDigit();
+        return BigInteger.valueOf(factorials[k]).multiply(ProductTree.product(k + 1, n + 1, pool));
+    }
+
+    /**
+     * Returns {@link BigInteger} representatives of factorial digits (see {@link #factorials(int[], ForkJoinPool)}),
+     * that are calculated in the {@link ForkJoinPool#commonPool()}.
+     * @param ns digits of factorials (in any order, maybe with repetitions)
+     * @return factorial values, i-th value is equal to ns[i]!
+     * @throws IllegalArgumentException if any digit is negative or estimated memory of calculation exceeds the budget
+     * of the global governor, when admission is enforced (see {@link FactorialGovernor#setEnforced(boolean)})
+     * @throws NullPointerException if ns is null
+     */
+    public static BigInteger[] factorials(int[] ns) {
+        return factorials(ns, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Returns {@link BigInteger} representatives of factorial digits, that are calculated in the pool. This method is
+     * much faster than the calculating of every factorial value separately (see {@link #factorial(int, ForkJoinPool)}),
+     * because total work is close to the calculating of the only one factorial value of max digit.
+     * @param ns digits of factorials (in any order, maybe with repetitions)
+     * @param pool pool for parallel multiplication
+     * @return factorial values, i-th value is equal to ns[i]! (equal digits have the same values)
+     * @throws IllegalArgumentException if any digit is negative or estimated memory of calculation of all values
+     * exceeds the budget of the global governor, when admission is enforced (see
+     * {@link FactorialGovernor#setEnforced(boolean)})
+     * @throws NullPointerException if ns or pool is null
+     * @implNote Digits are sorted and deduplicated, then products of natural series between consecutive distinct
+     * digits are calculated in parallel by binary splitting (see {@link #factorial(int, ForkJoinPool)}) and factorial
+     * values are obtained by the chaining of these products: d<sub>i</sub>! = d<sub>i-1</sub>! * (d<sub>i-1</sub> + 1)
+     * * ... * d<sub>i</sub>
+     */
+    public static BigInteger[] factorials(int[] ns, ForkJoinPool pool) {
+        if (ns == null) {
+            throw new NullPointerException("Digits are null!");
+        }
+        if (pool == null) {
+            throw new NullPointerException("Pool is null!");
+        }
+        for (int i = 0; i < ns.length; i++) {
+            checkOnNegative(ns[i], String.format("digit is negative number! (ns[%d] = %d)", i, ns[i]));
+        }
+
+        int[] digits = ns.clone();
+        Arrays.sort(digits);
+        int count = 0;
+        for (int digit: digits) {
+            if (count == 0 || digits[count - 1] != digit) {
+                digits[count++] = digit;
+            }
+        }
+
+        int k = maxLongFactorialDigit();
+        int longCount = 0;
+        while (longCount < count && digits[longCount] <= k) {
+            longCount++;
+        }
+
+        int distinctCount = count;
+        int distinctLongCount = longCount;
+        BigInteger[] values = governed(() -> {
+            double logValue = 0.0;
+            for (int i = distinctLongCount; i < distinctCount; i++) {
+                logValue += logFactorial(digits[i]);
+            }
+            return logValue;
+        }, () -> factorialsOfDistinctDigits(digits, distinctCount, distinctLongCount, pool));
+
+        BigInteger[] result = new BigInteger[ns.length];
+        for (int i = 0; i < ns.length; i++) {
+            result[i] = values[Arrays.binarySearch(digits, 0, count, ns[i])];
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns factorial values of sorted distinct digits, first longCount of them aren't more than
+     * {@link #maxLongFactorialDigit()}
+     */
+    private static BigInteger[] factorialsOfDistinctDigits(int[] digits, int count, int longCount, ForkJoinPool pool) {
+        int k = maxLongFactorialDigit();
+        int[] bounds = new int[count - longCount + 1];
+        bounds[0] = k + 1;
+        for (int i = longCount; i < count; i++) {
+            bounds[i - longCount + 1] = digits[i] + 1;
+        }
+
+        BigInteger[] products = ProductTree.products(bounds, pool);
+        BigInteger[] values = new BigInteger[count];
+        for (int i = 0; i < longCount; i++) {
+            values[i] = BigInteger.valueOf(factorials[digits[i]]);
+        }
+
+        BigInteger value = BigInteger.valueOf(factorials[k]);
+        for (int i = longCount; i < count; i++) {
+            value = value.multiply(products[i - longCount]);
+            values[i] = value;
+        }
+
+        return values;
+    }
+
+    /**
+     * Performs calculation of value, that is admitted by the global governor, if admission is enforced (see
+     * {@link FactorialGovernor#setEnforced(boolean)})
+     * @param logValue natural logarithm of calculated value, that is called only if admission is enforced
+     * @param calculation calculation of value
+     * @return calculated value
+     */
+    private static <T> T governed(DoubleSupplier logValue, Supplier<T> calculation) {
+        if (!FactorialGovernor.isEnforced()) {
+            return calculation.get();
+        }
+
+        return FactorialGovernor.enforce(FactorialGovernor.estimateBytes(logValue.getAsDouble()), calculation);
+    }
+
+    /**
+     * Returns future of {@link BigInteger} representative of factorial digit, that is calculated asynchronously by the
+     * executor (see {@link #factorialAsync(int, Executor, Duration, DoubleConsumer)}).
+     * @param n digit of factorial
+     * @param executor executor of calculations
+     * @return future of factorial value
+     * @throws IllegalArgumentException if n is negative
+     * @throws NullPointerException if executor is null
+     */
+    public static CompletableFuture<BigInteger> factorialAsync(int n, Executor executor) {
+        return factorialAsync(n, executor, null, null);
+    }
+
+    /**
+     * Returns future of {@link BigInteger} representative of factorial digit, that is calculated asynchronously by the
+     * executor. Calculations are stopped, if the future is completed before their end: by cancellation
+     * ({@link CompletableFuture#cancel(boolean)}) or by timeout (then the future is completed exceptionally with
+     * {@link java.util.concurrent.TimeoutException} immediately, without waiting for the end of current step).
+     * @param n digit of factorial
+     * @param executor executor of calculations
+     * @param timeout maximal duration of calculations (or null, if duration isn't limited)
+     * @param progressListener listener of progress (or null), that accepts fraction of completed steps of calculations
+     *                         (from 0 to 1 inclusive) in the thread of calculations
+     * @return future of factorial value (it's completed exceptionally with {@link IllegalArgumentException}, if
+     * estimated memory of calculation exceeds the budget of the global governor, when admission is enforced, see
+     * {@link FactorialGovernor#setEnforced(boolean)})
+     * @throws IllegalArgumentException if n is negative
+     * @throws NullPointerException if executor is null
+     * @implNote Natural series from 21 to n is divided into chunks, that are multiplied by binary splitting, and then
+     * the products of chunks are multiplied pairwise. Completion of the future is checked between these steps, so
+     * calculations are stopped with delay not more than duration of one step
+     */
+    public static CompletableFuture<BigInteger> factorialAsync(int n, Executor executor, Duration timeout,
+                                                               DoubleConsumer progressListener) {
+        checkOnNegative(n, String.format("digit is negative number! (n = %d)", n));
+        if (executor == null) {
+            throw new NullPointerException("Executor is null!");
+        }
+
+        CompletableFuture<BigInteger> future = new CompletableFuture<>();
+        if (timeout != null) {
+            future.orTimeout(Math.max(timeout.toNanos(), 0L), TimeUnit.NANOSECONDS);
+        }
+
+        try {
+            executor.execute(new AsyncFactorialTask(n, future, progressListener));
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    /**
+     * Returns {@link BigInteger} representative of factorial digit, that is calculated by the algorithm.
+     * @param n digit of factorial
+     * @param algorithm algorithm of factorial's calculating
+     * @return {@link BigInteger} factorial value
+     * @throws IllegalArgumentException if n is negative or estimated memory of calculation exceeds the budget of the
+     * global governor, when admission is enforced (see {@link FactorialGovernor#setEnforced(boolean)})
+     * @throws NullPointerException if algorithm is null
+     * @see FactorialAlgorithm#multiplyRange()
+     * @see FactorialAlgorithm#productTree()
+     * @see FactorialAlgorithm#primeSwing()
+     */
+    public static BigInteger factorial(int n, FactorialAlgorithm algorithm) {
+        checkOnNegative(n, String.format("digit is negative number! (n = %d)", n));
+        if (algorithm == null) {
+            throw new NullPointerException("Algorithm is null!");
+        }
+
+        if (FactorialGovernor.isEnforced()) {
+            return FactorialGovernor.enforce(FactorialGovernor.estimateFactorialBytes(n),
+                    () -> recordedFactorial(n, algorithm));
+        }
+
+        return recordedFactorial(n, algorithm);
+    }
+
+    private static BigInteger recordedFactorial(int n, FactorialAlgorithm algorithm) {
+        if (!FactorialMetrics.isEnabled()) {
+            return algorithm.factorial(n);
+        }
+
+        FactorialMetrics.Measurement measurement = FactorialMetrics.start();
+        BigInteger value = algorithm.factorial(n);
+        measurement.record(FactorialMetrics.Operation.FACTORIAL, n, -1L, value.bitLength(), algorithm.toString());
+        return value;
+    }
+
+    /**
+     * Returns sequential ordered stream of factorials of digits from fromInclusive to toExclusive (exclusive).
+     * @param fromInclusive first digit of factorial
+     * @param toExclusive digit after the last digit of factorial
+     * @return stream of factorial values
+     * @throws IllegalArgumentException if fromInclusive is negative or toExclusive &lt; fromInclusive
+     * @implNote Every next factorial is calculated from the previous one by a single multiplication by small number. In
+     * the parallel stream the range of digits is split into parts, and the first factorial of every part is calculated
+     * by binary splitting (see {@link #factorial(int)})
+     */
+    public static Stream<BigInteger> factorialStream(int fromInclusive, int toExclusive) {
+        checkOnNegative(fromInclusive, String.format("digit is negative number! (fromInclusive = %d)", fromInclusive));
+        checkRangeClosed(fromInclusive, toExclusive,
+                String.format("toExclusive = %d is less than fromInclusive = %d!", toExclusive, fromInclusive));
+
+        return StreamSupport.stream(new FactorialSpliterator(fromInclusive, toExclusive), false);
+    }
+
+    private static boolean isLongMultiplyExact(long longValue, int i) {
+        return bitLength(longValue) + bitLength(i + 1) <= 63;
+    }
+
+    private static int bitLength(long longValue) {
+        int bitLength = 0;
+        while (longValue != 0) {
+            bitLength += 1;
+            longValue >>>= 1;
+        }
+
+        return bitLength;
+    }
+
+    /**
+     * Returns max digit for calculating of factorial value with long type
+     * @return max digit for of long factorial value
+     */
+    public static int maxLongFactorialDigit() {
+        return factorials.length - 1;
+    }
+
+    /**
+     * Returns long factorial value without boxing (for internal usage in the hot paths)
+     * @param n digit of factorial, that isn't more than {@link #maxLongFactorialDigit()}
+     * @return long factorial value
+     */
+    static long longFactorialValue(int n) {
+        return factorials[n];
+    }
+
+    /**
+     * Returns max digit for calculating of factorial value with type {@link BigInteger}.
+     * @return max digit for calculating of factorial value
+     * @see #MAX_BIGINTEGER_FACTORIAL_DIGIT
+     * @see FactorialGovernor
+     */
+    public static int getMaxBigIntegerFactorialDigit() {
+        return MAX_BIGINTEGER_FACTORIAL_DIGIT;
+    }
+
+    /**
+     * Returns natural logarithm of factorial value without the calculating of factorial value.
+     * @param n digit of factorial
+     * @return ln(n!)
+     * @throws IllegalArgumentException if n is negative
+     * @implNote For n &lt; 21 logarithm of long factorial value is returned. Otherwise, is used
+     * <a href=https://en.wikipedia.org/wiki/Stirling%27s_approximation>Stirling's series</a>:
+     * <p>ln(n!) = (n + 1/2) ln n - n + ln(2&pi;)/2 + 1/(12n) - 1/(360n<sup>3</sup>) + 1/(1260n<sup>5</sup>) + R,</p>
+     * where |R| &lt; 1/(1680n<sup>7</sup>) &lt; 10<sup>-12</sup>. Thus, error of result is defined by the rounding of
+     * double values: relative error is less than 4*10<sup>-15</sup>
+     */
+    public static double logFactorial(int n) {
+        checkOnNegative(n, String.format("digit is negative number! (n = %d)", n));
+        if (n < factorials.length) {
+            return Math.log(factorials[n]);
+        }
+
+        double x = n;
+        return (x + 0.5) * Math.log(x) - x + LOG_SQRT_2PI + stirlingCorrection(x);
+    }
+
+    private static double stirlingCorrection(double x) {
+        double inverse = 1.0 / x;
+        double inverseSquare = inverse * inverse;
+        return inverse * (1.0 / 12 - inverseSquare * (1.0 / 360 - inverseSquare / 1260));
+    }
+
+    /**
+     * Returns bit length of factorial value (see {@link BigInteger#bitLength()}) without the calculating of factorial
+     * value.
+     * @param n digit of factorial
+     * @return bit length of n!
+     * @throws IllegalArgumentException if n is negative
+     * @implNote Bit length is equal to &lfloor;log<sub>2</sub>(n!)&rfloor; + 1, where logarithm is calculated by
+     * {@link #logFactorial(int)}. If logarithm is so close to integer, that its rounding error can change the result
+     * (probability is about 10<sup>-14</sup>log<sub>2</sub>(n!)), logarithm is recalculated by Stirling's series in
+     * {@link java.math.BigDecimal} precision with absolute error less than 10<sup>-25</sup>. Factorial value is never
+     * calculated
+     */
+    public static long factorialBitLength(int n) {
+        checkOnNegative(n, String.format("digit is negative number! (n = %d)", n));
+        if (n < factorials.length) {
+            return Long.SIZE - Long.numberOfLeadingZeros(factorials[n]);
+        }
+
+        double log2 = logFactorial(n) / LOG_2;
+        if (isFarFromInteger(log2)) {
+            return (long) Math.floor(log2) + 1;
+        }
+
+        return Logarithms.digits(Logarithms.logFactorial(n, PRECISE_LOG_CONTEXT), 2, PRECISE_LOG_CONTEXT);
+    }
+
+    private static boolean isFarFromInteger(double log) {
+        double error = log * LOG_RELATIVE_ERROR + LOG_ABSOLUTE_ERROR;
+        double floor = Math.floor(log);
+        return log - floor > error && floor + 1 - log > error;
+    }
+
+    /**
+     * Returns count of digits of factorial value in decimal number system without the calculating of factorial value.
+     * @param n digit of factorial
+     * @return count of decimal digits of n!
+     * @throws IllegalArgumentException if n is negative
+     * @implNote Count of digits is equal to &lfloor;log<sub>10</sub>(n!)&rfloor; + 1, where logarithm is calculated by
+     * {@link #logFactorial(int)}. If logarithm is so close to integer, that its rounding error can change the result
+     * (probability is about 10<sup>-14</sup>log<sub>10</sub>(n!)), logarithm is recalculated by Stirling's series in
+     * {@link java.math.BigDecimal} precision with absolute error less than 10<sup>-25</sup>. Factorial value is never
+     * calculated
+     */
+    public static long factorialDecimalDigits(int n) {
+        checkOnNegative(n, String.format("digit is negative number! (n = %d)", n));
+        if (n < factorials.length) {
+            return Long.toString(factorials[n]).length();
+        }
+
+        double log10 = logFactorial(n) / LOG_10;
+        if (isFarFromInteger(log10)) {
+            return (long) Math.floor(log10) + 1;
+        }
+
+        return Logarithms.digits(Logarithms.logFactorial(n, PRECISE_LOG_CONTEXT), 10, PRECISE_LOG_CONTEXT);
+    }
+
+    /**
+     * Returns natural logarithm of combination of n things taken k at a time without repetition without the
+     * calculating of combination value.
+     * @param n - things count
+     * @param k - taken things count
+     * @return ln(C(n,k))
+     * @throws IllegalArgumentException - if k &lt; 0 or n &lt; k
+     * @implNote For s = min(k, n-k) &lt; 21 combination is calculated as product of s fractions (n-s+i)/i. Otherwise, is
+     * used difference of Stirling's series (see {@link #logFactorial(int)}) in the numerically stable form:
+     * <p>ln C(n,k) = k ln(n/k) - (n-k) ln(1 - k/n) + (ln n - ln k - ln(n-k) - ln(2&pi;))/2 + c(n) - c(k) - c(n-k),</p>
+     * where c - correction terms of Stirling's series, so relative error of result is about 10<sup>-15</sup>
+     */
+    public static double logCombinations(int n, int k) {
+        checkCombinations(n, k);
+
+        int s = Math.min(k, n - k);
+        if (s < factorials.length) {
+            return Math.log(smallCombinations(n, s));
+        }
+
+        double x = n;
+        double y = s;
+        double z = n - s;
+        return y * Math.log(x / y) - z * Math.log1p(-y / x)
+                + 0.5 * (Math.log(x) - Math.log(y) - Math.log(z)) - LOG_SQRT_2PI
+                + stirlingCorrection(x) - stirlingCorrection(y) - stirlingCorrection(z);
+    }
+
+    /**
+     * Returns approximate value of combination of n things taken k at a time without repetition without the
+     * calculating of exact combination value (see {@link #logCombinations(int, int)}).
+     * @param n - things count
+     * @param k - taken things count
+     * @return approximate value of C(n,k) or {@link Double#POSITIVE_INFINITY}, if value is more than
+     * {@link Double#MAX_VALUE}
+     * @throws IllegalArgumentException - if k &lt; 0 or n &lt; k
+     */
+    public static double approximateCombinations(int n, int k) {
+        checkCombinations(n, k);
+
+        int s = Math.min(k, n - k);
+        if (s < factorials.length) {
+            return smallCombinations(n, s);
+        }
+
+        return Math.exp(logCombinations(n, k));
+    }
+
+    private static double smallCombinations(int n, int s) {
+        double result = 1.0;
+        for (int i = 1; i <= s; i++) {
+            result = result * (n - s + i) / i;
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns factorial value in the compact representation: odd part and exponent of 2 (see {@link OddPartFactorial}).
+     * @param n digit of factorial
+     * @return factorial value in the form o * 2<sup>e</sup>
+     * @throws IllegalArgumentException if n is negative
+     * @implNote Exponent of 2 is equal to n - (count of 1 bits of n) by Legendre's formula, and odd part is calculated
+     * by the prime swing algorithm (see {@link FactorialAlgorithm#primeSwing()}) without any powers of 2
+     */
+    public static OddPartFactorial oddPartFactorial(int n) {
+        checkOnNegative(n, String.format("digit is negative number! (n = %d)", n));
+        return new OddPartFactorial(n, PrimeSwingFactorialAlgorithm.oddFactorial(n), n - Integer.bitCount(n));
+    }
+
+    /**
+     * Returns exponent of the largest power of number p, that divides factorial value (p-adic valuation of n!, if p is
+     * prime number), without the calculating of factorial value.
+     * @param n digit of factorial
+     * @param p base of power (number, that isn't less than 2)
+     * @return max number e, that p<sup>e</sup> divides n!
+     * @throws IllegalArgumentException if n is negative or p &lt; 2
+     * @implNote For prime number p exponent is calculated by Legendre's formula:
+     * v<sub>p</sub>(n!) = &lfloor;n/p&rfloor; + &lfloor;n/p<sup>2</sup>&rfloor; + ... in O(log n) operations. For
+     * composite number p = q<sub>1</sub><sup>a<sub>1</sub></sup> * q<sub>2</sub><sup>a<sub>2</sub></sup> * ...
+     * (factorization is found by trial division) exponent is equal to min(v<sub>q</sub>(n!) / a) over all prime powers
+     * q<sup>a</sup> of factorization
+     */
+    public static long valuation(int n, int p) {
+        checkOnNegative(n, String.format("digit is negative number! (n = %d)", n));
+        if (p < 2) {
+            throw new IllegalArgumentException(String.format("base is less than 2! (p = %d)", p));
+        }
+
+        long valuation = Long.MAX_VALUE;
+        int rest = p;
+        for (int q = 2; q <= rest / q; q++) {
+            if (rest % q == 0) {
+                int exponent = 0;
+                while (rest % q == 0) {
+                    rest /= q;
+                    exponent++;
+                }
+                valuation = Math.min(valuation, Primes.legendre(n, q) / exponent);
+            }
+        }
+
+        return rest == 1 ? valuation : Math.min(valuation, Primes.legendre(n, rest));
+    }
+
+    /**
+     * Returns count of trailing zeros of factorial value in decimal number system without the calculating of factorial
+     * value.
+     * @param n digit of factorial
+     * @return count of trailing zeros of n!
+     * @throws IllegalArgumentException if n is negative
+     * @implNote Count of trailing zeros is equal to exponent of 5 in n! (see {@link #valuation(int, int)}), because
+     * exponent of 2 isn't less than exponent of 5
+     */
+    public static long trailingZeros(int n) {
+        checkOnNegative(n, String.format("digit is negative number! (n = %d)", n));
+        return Primes.legendre(n, 5);
+    }
+
+    /**
+     * Returns last non-zero digit of factorial value in decimal number system without the calculating of factorial
+     * value.
+     * @param n digit of factorial
+     * @return last non-zero decimal digit of n!
+     * @throws IllegalArgumentException if n is negative
+     * @implNote For calculating is used recurrence relation D(n) = 2<sup>&lfloor;n/5&rfloor;</sup> *
+     * D(&lfloor;n/5&rfloor;) * D(n mod 5) (mod 10), where D(0), ..., D(4) = 1, 1, 2, 6, 4, so digit is calculated in
+     * O(log n) operations
+     */
+    public static int lastNonZeroDigit(int n) {
+        checkOnNegative(n, String.format("digit is negative number! (n = %d)", n));
+
+        int digit = 1;
+        while (n > 0) {
+            int quotient = n / 5;
+            digit = digit * powerOfTwoLastDigit(quotient) * LAST_NON_ZERO_DIGITS[n % 5] % 10;
+            n = quotient;
+        }
+
+        return digit;
+    }
+
+    private static int powerOfTwoLastDigit(int exponent) {
+        if (exponent == 0) {
+            return 1;
+        }
+
+        return POWER_OF_TWO_LAST_DIGITS[exponent % 4];
+    }
+
+    /**
+     * Calculation max digit for factorial, that can be representative by {@link BigInteger}. For calculations is used
+     * logarithm property of the multiplication:
+     * <p>log<sub>2</sub>n! = log<sub>2</sub>(1 * 2 * ... * n) = log<sub>2</sub>1 + log<sub>2</sub>2 + ... + log<sub>2</sub>n</p>
+     * log<sub>2</sub>n! - is a number of bits required for the representation factorial value in binary number system
+     * @see #MAX_BIGINTEGER_FACTORIAL_DIGIT
+     */
+    private static void calcMaxBigIntegerFactorialDigit() {
+        double factSum = 0;
+        int n = 1;
+
+        double log2 = Math.log(2);
+        while (factSum < Integer.MAX_VALUE) {
+            factSum += Math.log(n)/ log2;
+            n++;
+        }
+    }
+
+    private static long[][] pascalTriangle() {
+        long[][] triangle = new long[MAX_LONG_COMBINATIONS_N + 1][];
+        for (int n = 0; n < triangle.length; n++) {
+            triangle[n] = new long[n / 2 + 1];
+            triangle[n][0] = 1L;
+            for (int k = 1; k < triangle[n].length; k++) {
+                long right = 2 * k == n ? triangle[n - 1][k - 1] : triangle[n - 1][k];
+                triangle[n][k] = triangle[n - 1][k - 1] + right;
+            }
+        }
+
+        return triangle;
+    }
+
+    /**
+     * Returns long representative of combination of n things taken k at a time without repetition. If combination fits
+     * into long, will be returned {@link OptionalLong} object with combination value inside, otherwise, will be
+     * returned {@link OptionalLong#empty()} object
+     * @param n - things count
+     * @param k - taken things count
+     * @return {@link OptionalLong} object with long combination value, if it's exist, or {@link OptionalLong#empty()}
+     * object
+     * @throws IllegalArgumentException - if k &lt; 0 or n &lt; k
+     * @implNote For n &le; 66 combination is taken from precomputed Pascal's triangle. Otherwise, combination
+     * C(n,s) (s = min(k, n-k)) is calculated by the multiplicative formula C(n-s+i, i) = C(n-s+i-1, i-1) * (n-s+i) / i
+     * without any allocations: before every multiplication both multipliers are reduced by gcd with i, and the
+     * multiplication is checked on overflow by {@link Math#multiplyHigh(long, long)}. Intermediate values don't exceed
+     * the result, so overflow of multiplication means, that combination doesn't fit into long
+     */
+    public static OptionalLong longCombinations(int n, int k) {
+        checkCombinations(n, k);
+        long value = longCombinationsValue(n, Math.min(k, n - k));
+        return value < 0L ? OptionalLong.empty() : OptionalLong.of(value);
+    }
+
+    /**
+     * Returns combination C(n,s) (s &le; n/2), if it fits into long, otherwise, returns -1
+     */
+    private static long longCombinationsValue(int n, int s) {
+        if (n <= MAX_LONG_COMBINATIONS_N) {
+            return combinations[n][s];
+        }
+
+        long value = 1L;
+        for (int i = 1; i <= s; i++) {
+            long numerator = n - s + i;
+            long gcd = gcd(value, i);
+            long multiplier = numerator / (i / gcd);
+            long reduced = value / gcd;
+
+            long low = reduced * multiplier;
+            if (Math.multiplyHigh(reduced, multiplier) != 0L || low < 0L) {
+                return -1L;
+            }
+            value = low;
+        }
+
+        return value;
+    }
+
+    private static long gcd(long a, long b) {
+        while (b != 0L) {
+            long remainder = a % b;
+            a = b;
+            b = remainder;
+        }
+
+        return a;
+    }
+
+    /**
+     * Return {@link BigInteger} representative combination of n things taken k at a time without repetition
+     * @param n - things count
+     * @param k - taken things count
+     * @return {@link BigInteger} combination value.
+     * @throws IllegalArgumentException - if k &lt; 0 or n &lt; k or estimated memory of calculation exceeds the budget
+     * of the global governor, when admission is enforced (see {@link FactorialGovernor#setEnforced(boolean)})
+     * @implNote For calculating combination C(n,k) = n!/(s!(n-s)!) (s = min(k, n-k)) three ways are used:
+     * <ol>
+     *     <li>if combination fits into long, it's calculated over long type variable without any allocations (see
+     *     {@link #longCombinations(int, int)})</li>
+     *     <li>if s is small or much less than n, the numerator n!/(n-s)! = (n-s+1)*(n-s+2)*...*(n-1)*n
+     *     {@link #multiplyRange(int, int)} is divided by the denominator s! {@link #factorial(int)}</li>
+     *     <li>otherwise, combination is calculated without division from its factorization by prime numbers: by
+     *     <a href=https://en.wikipedia.org/wiki/Kummer%27s_theorem>Kummer's theorem</a> exponent of prime p in C(n,k) is
+     *     equal to v<sub>p</sub>(n!) - v<sub>p</sub>(k!) - v<sub>p</sub>((n-k)!), where v<sub>p</sub> - exponent by
+     *     Legendre's formula, and every prime power is not more than n. Prime powers are multiplied by binary
+     *     splitting</li>
+     * </ol>
+     */
+    public static BigInteger combinations(int n, int k) {
+        checkCombinations(n, k);
+
+        if (k == 0) {
+            return BigInteger.ONE;
+        }
+
+        int denValue = Math.min(k, n - k);
+        long longValue = longCombinationsValue(n, denValue);
+        if (longValue >= 0L) {
+            return BigInteger.valueOf(longValue);
+        }
+
+        if (FactorialGovernor.isEnforced()) {
+            return FactorialGovernor.enforce(FactorialGovernor.estimateCombinationsBytes(n, k),
+                    () -> recordedCombinations(n, k, denValue));
+        }
+
+        return recordedCombinations(n, k, denValue);
+    }
+
+    private static BigInteger recordedCombinations(int n, int k, int denValue) {
+        boolean primeCombinations = isPrimeCombinations(n, denValue);
+        if (!FactorialMetrics.isEnabled()) {
+            return combinations(n, denValue, primeCombinations);
+        }
+
+        FactorialMetrics.Measurement measurement = FactorialMetrics.start();
+        BigInteger value = combinations(n, denValue, primeCombinations);
+        measurement.record(FactorialMetrics.Operation.COMBINATIONS, n, k, value.bitLength(),
+                primeCombinations ? "primeCombinations" : "multiplyRange");
+        return value;
+    }
+
+    /**
+     * Returns true, if combination C(n,s) (s = min(k, n-k)) is calculated from its factorization by prime numbers
+     * instead of division (see {@link #combinations(int, int)})
+     */
+    static boolean isPrimeCombinations(int n, int s) {
+        return s >= MIN_PRIME_COMBINATIONS_DIGIT && s >= n / PRIME_COMBINATIONS_RATIO;
+    }
+
+    private static BigInteger combinations(int n, int denValue, boolean primeCombinations) {
+        if (primeCombinations) {
+            return primeCombinations(n, denValue);
+        }
+
+        BigInteger numerator = multiplyRange(n - denValue + 1, n).multiply(BigInteger.valueOf(n));
+        BigInteger denominator = factorial(denValue);
+
+        return numerator.divide(denominator);
+    }
+
+    private static BigInteger primeCombinations(int n, int k) {
+        int[] primes = Primes.primes(n);
+        int[] powers = new int[primes.length];
+        int count = 0;
+
+        for (int p: primes) {
+            long exponent = Primes.legendre(n, p) - Primes.legendre(k, p) - Primes.legendre(n - k, p);
+            if (exponent != 0L) {
+                int power = p;
+                for (long i = 1; i < exponent; i++) {
+                    power *= p;
+                }
+                powers[count++] = power;
+            }
+        }
+
+        return ProductTree.product(powers, 0, count);
+    }
+
+    /**
+     * Return {@link BigInteger} representative of multinomial coefficient (k<sub>1</sub> + k<sub>2</sub> + ... +
+     * k<sub>m</sub>)! / (k<sub>1</sub>! * k<sub>2</sub>! * ... * k<sub>m</sub>!) - count of ways to divide
+     * k<sub>1</sub> + ... + k<sub>m</sub> things into groups of sizes k<sub>1</sub>, ..., k<sub>m</sub>
+     * @param ks sizes of groups
+     * @return {@link BigInteger} multinomial coefficient value ({@link BigInteger#ONE}, if there aren't any groups)
+     * @throws NullPointerException if ks is null
+     * @throws IllegalArgumentException if any size of group is negative or sum of sizes is more than
+     * {@link Integer#MAX_VALUE} or estimated memory of calculation exceeds the budget of the
+     * global governor, when admission is enforced (see {@link FactorialGovernor#setEnforced(boolean)})
+     * @implNote Multinomial coefficient is calculated without division from its factorization by prime numbers:
+     * exponent of prime p is equal to v<sub>p</sub>(n!) - v<sub>p</sub>(k<sub>1</sub>!) - ... -
+     * v<sub>p</sub>(k<sub>m</sub>!), where n = k<sub>1</sub> + ... + k<sub>m</sub> and v<sub>p</sub> - exponent by
+     * Legendre's formula. Prime powers are combined by binary exponentiation: primes, which exponents have i-th bit,
+     * are multiplied by binary splitting, and then the products are combined by squaring from the highest bit
+     */
+    public static BigInteger multinomial(int... ks) {
+        if (ks == null) {
+            throw new NullPointerException("Sizes are null!");
+        }
+
+        long sum = 0L;
+        int max = 0;
+        for (int i = 0; i < ks.length; i++) {
+            checkOnNegative(ks[i], String.format("size of group is negative number! (ks[%d] = %d)", i, ks[i]));
+            sum += ks[i];
+            max = Math.max(max, ks[i]);
+        }
+
+        if (sum > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("sum of sizes of groups is too large! (sum = %d)", sum));
+        }
+
+        int n = (int) sum;
+        if (max == n) {
+            return BigInteger.ONE;
+        }
+
+        if (n < factorials.length) {
+            long value = factorials[n];
+            for (int k: ks) {
+                value /= factorials[k];
+            }
+            return BigInteger.valueOf(value);
+        }
+
+        int maxSize = max;
+        return governed(() -> {
+            double logValue = logFactorial(n);
+            for (int k: ks) {
+                logValue -= logFactorial(k);
+            }
+            return logValue;
+        }, () -> primeMultinomial(n, maxSize, ks));
+    }
+
+    private static BigInteger primeMultinomial(int n, int max, int[] ks) {
+        int[] primes = Primes.primes(n);
+        long[] exponents = new long[primes.length];
+        long maxExponent = 0L;
+        for (int i = 0; i < primes.length; i++) {
+            int p = primes[i];
+            long exponent = Primes.legendre(n, p);
+            if (p <= max) {
+                for (int k: ks) {
+                    exponent -= Primes.legendre(k, p);
+                }
+            }
+            exponents[i] = exponent;
+            maxExponent = Math.max(maxExponent, exponent);
+        }
+
+        return primePowersProduct(primes, exponents, maxExponent);
+    }
+
+    /**
+     * Returns product of prime powers p<sub>i</sub><sup>e<sub>i</sub></sup> by binary exponentiation
+     */
+    private static BigInteger primePowersProduct(int[] primes, long[] exponents, long maxExponent) {
+        int[] factors = new int[primes.length];
+        BigInteger result = BigInteger.ONE;
+        for (int bit = Long.SIZE - 1 - Long.numberOfLeadingZeros(maxExponent); bit >= 0; bit--) {
+            int count = 0;
+            for (int i = 0; i < primes.length; i++) {
+                if ((exponents[i] >>> bit & 1L) != 0L) {
+                    factors[count++] = primes[i];
+                }
+            }
+
+            result = result.multiply(result).multiply(ProductTree.product(factors, 0, count));
+        }
+
+        return result;
+    }
+
+    /**
+     * Return {@link BigInteger} representative of falling factorial n * (n-1) * ... * (n-k+1) = n!/(n-k)! - count of
+     * arrangements of k things from n things
+     * @param n - things count
+     * @param k - taken things count
+     * @return {@link BigInteger} falling factorial value ({@link BigInteger#ONE}, if k = 0)
+     * @throws IllegalArgumentException - if k &lt; 0 or n &lt; k or estimated memory of calculation exceeds the budget
+     * of the global governor, when admission is enforced (see {@link FactorialGovernor#setEnforced(boolean)})
+     * @implNote Series from n-k+1 to n is multiplied by balanced binary splitting in the
+     * {@link ForkJoinPool#commonPool()} (see {@link #factorial(int, ForkJoinPool)}) without any division
+     */
+    public static BigInteger fallingFactorial(int n, int k) {
+        checkCombinations(n, k);
+        if (n == k) {
+            return factorial(n);
+        }
+
+        if (k == 0) {
+            return BigInteger.ONE;
+        }
+
+        // n + 1 overflows for n = Integer.MAX_VALUE, so the last number is multiplied separately
+        return governed(() -> logFactorial(n) - logFactorial(n - k),
+                () -> ProductTree.product(n - k + 1, n, ForkJoinPool.commonPool()).multiply(BigInteger.valueOf(n)));
+    }
+
+    /**
+     * Return {@link BigInteger} representative of rising factorial n * (n+1) * ... * (n+k-1) = (n+k-1)!/(n-1)!
+     * @param n first number of series
+     * @param k count of numbers of series
+     * @return {@link BigInteger} rising factorial value ({@link BigInteger#ONE}, if k = 0)
+     * @throws IllegalArgumentException if n or k is negative or n + k is more than {@link Integer#MAX_VALUE} or
+     * estimated memory of calculation exceeds the budget of the global governor, when admission is enforced (see
+     * {@link FactorialGovernor#setEnforced(boolean)})
+     * @implNote Series from n to n+k-1 is multiplied by balanced binary splitting in the
+     * {@link ForkJoinPool#commonPool()} (see {@link #factorial(int, ForkJoinPool)}) without any division
+     */
+    public static BigInteger risingFactorial(int n, int k) {
+        checkOnNegative(n, String.format("n = %d is negative number!", n));
+        checkOnNegative(k, String.format("k = %d is negative number!", k));
+        checkRangeClosed(k, Integer.MAX_VALUE - n, String.format("n + k is too large! (n = %d, k = %d)", n, k));
+
+        if (k == 0) {
+            return BigInteger.ONE;
+        }
+
+        if (n <= 1) {
+            return n == 0 ? BigInteger.ZERO : factorial(k);
+        }
+
+        return governed(() -> logFactorial(n + k - 1) - logFactorial(n - 1),
+                () -> ProductTree.product(n, n + k, ForkJoinPool.commonPool()));
+    }
+
+    /**
+     * Return {@link BigInteger} representative of double factorial n!! = n * (n-2) * (n-4) * ... (product of all
+     * numbers from 1 to n, which have the same parity as n)
+     * @param n digit of double factorial
+     * @return {@link BigInteger} double factorial value ({@link BigInteger#ONE}, if n = 0)
+     * @throws IllegalArgumentException if n is negative or estimated memory of calculation exceeds the budget of the
+     * global governor, when admission is enforced (see {@link FactorialGovernor#setEnforced(boolean)})
+     * @implNote For even n = 2m double factorial is equal to 2<sup>m</sup> * m! (see {@link #factorial(int)}) and
+     * power of 2 is applied by shift, for odd n series of odd numbers from 1 to n is multiplied by balanced binary
+     * splitting in the {@link ForkJoinPool#commonPool()}
+     */
+    public static BigInteger doubleFactorial(int n) {
+        checkOnNegative(n, String.format("digit is negative number! (n = %d)", n));
+
+        int m = n >>> 1;
+        if ((n & 1) == 0) {
+            return governed(() -> logFactorial(m) + m * LOG_2, () -> factorial(m).shiftLeft(m));
+        }
+
+        // (2m + 1)!! = (2m + 1)! / (2^m * m!)
+        return governed(() -> logFactorial(n) - logFactorial(m) - m * LOG_2,
+                () -> ProductTree.oddProduct(1, n + 1, ForkJoinPool.commonPool()));
+    }
+
+    private static void checkCombinations(int n, int k) {
+        checkRangeClosed(k, n, String.format("k = %d is more than n = %d!", k, n));
+        checkOnNegative(k, String.format("k = %d is negative number!", k));
+    }
+
+    private static void checkRangeClosed(int start, int end, String errorMessage) {
+        if (end < start) {
+            throw new IllegalArgumentException(errorMessage);
+        }
+    }
+
+    static BigInteger multiplyRange(int startInclusive, int endExclusive) {
+        if (startInclusive <= 0 && endExclusive > 0) {
+            return BigInteger.ZERO;
+        }
+
+        if (!FactorialMetrics.isEnabled()) {
+            return sequentialProduct(startInclusive, endExclusive);
+        }
+
+        FactorialMetrics.Measurement measurement = FactorialMetrics.start();
+        BigInteger value = sequentialProduct(startInclusive, endExclusive);
+        measurement.record(FactorialMetrics.Operation.MULTIPLY_RANGE, startInclusive, endExclusive,
+                value.bitLength(), "sequential");
+        return value;
+    }
+
+    private static BigInteger sequentialProduct(int startInclusive, int endExclusive) {
+        BigInteger result = BigInteger.ONE;
+        long termResult = 1L;
+
+        for (int i = startInclusive; i < endExclusive; i++) {
+            termResult *= i;
+            if (!isLongMultiplyExact(termResult, i + 1)) {
+                result = result.multiply(BigInteger.valueOf(termResult));
+                termResult = 1L;
+            }
+        }
+
+        if (termResult != 1L) {
+            result = result.multiply(BigInteger.valueOf(termResult));
+        }
+
+        return result;
+    }
+}
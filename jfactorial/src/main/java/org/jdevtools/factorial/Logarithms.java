@@ -0,0 +1,178 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Internal utility class for the logarithms in {@link BigDecimal} precision: natural logarithms of integers, natural
+ * logarithm of factorial value by <a href=https://en.wikipedia.org/wiki/Stirling%27s_approximation>Stirling's
+ * series</a> and exponent. It's used, when precision of type double isn't enough, so precision of results is limited by
+ * {@link #MAX_PRECISION} decimal digits.
+ * <p>
+ *     <b>This class is thread-safe,</b> because it's not possible to construct object of this class, and this class
+ *     hasn't anything states.
+ * </p>
+ * @author Ilnur Nasybullin
+ */
+final class Logarithms {
+
+    /**
+     * Maximal precision (count of significant decimal digits) of results
+     */
+    final static int MAX_PRECISION = 60;
+
+    /**
+     * Count of additional decimal digits of intermediate values
+     */
+    private final static int GUARD_DIGITS = 10;
+
+    /**
+     * ln(2&pi;)/2 - constant term of Stirling's series (80 significant digits)
+     */
+    private final static BigDecimal LOG_SQRT_2PI = new BigDecimal(
+            "0.91893853320467274178032973640561763986139747363778341281715154048276569592726045");
+
+    /**
+     * Coefficients B<sub>2k</sub>/(2k(2k - 1)) of Stirling's series, k = 1, ..., 10 (B<sub>2k</sub> - Bernoulli
+     * numbers) as pairs of numerator and denominator. For n &ge; 21 absolute value of remainder of series is less than
+     * the next term 77683/(5796n<sup>21</sup>) &lt; 3*10<sup>-27</sup>
+     */
+    private final static long[][] STIRLING_COEFFICIENTS = {
+            {1, 12}, {-1, 360}, {1, 1260}, {-1, 1680}, {1, 1188},
+            {-691, 360360}, {1, 156}, {-3617, 122400}, {43867, 244188}, {-174611, 125400}
+    };
+
+    /**
+     * Private constructor for the inability to construct an object of this class.
+     */
+    private Logarithms() {}
+
+    /**
+     * Returns natural logarithm of factorial value without the calculating of factorial value.
+     * @param n non-negative digit of factorial
+     * @param mc context of result (precision isn't more than {@link #MAX_PRECISION})
+     * @return ln(n!) with relative error about 10<sup>-mc.precision</sup> and additional absolute error less than
+     * 3*10<sup>-27</sup> (remainder of Stirling's series)
+     */
+    static BigDecimal logFactorial(int n, MathContext mc) {
+        MathContext context = guardContext(mc);
+        if (n < Factorials.maxLongFactorialDigit() + 1) {
+            return log(Factorials.longFactorialValue(n), context).round(mc);
+        }
+
+        BigDecimal x = BigDecimal.valueOf(n);
+        BigDecimal value = x.add(BigDecimal.valueOf(0.5)).multiply(log(n, context), context)
+                .subtract(x)
+                .add(LOG_SQRT_2PI);
+
+        BigDecimal inverse = BigDecimal.ONE.divide(x, context);
+        BigDecimal inverseSquare = inverse.multiply(inverse, context);
+        BigDecimal power = inverse;
+        for (long[] coefficient : STIRLING_COEFFICIENTS) {
+            value = value.add(power.multiply(BigDecimal.valueOf(coefficient[0]))
+                    .divide(BigDecimal.valueOf(coefficient[1]), context));
+            power = power.multiply(inverseSquare, context);
+        }
+
+        return value.round(mc);
+    }
+
+    /**
+     * Returns natural logarithm of positive number.
+     * @param x positive number
+     * @param mc context of result (precision isn't more than {@link #MAX_PRECISION})
+     * @return ln(x)
+     * @implNote x is represented as m * 2<sup>e</sup>, where 3/4 &le; m &lt; 3/2, and
+     * ln(x) = e * ln(2) + 2 * atanh((m - 1)/(m + 1))
+     */
+    static BigDecimal log(long x, MathContext mc) {
+        MathContext context = guardContext(mc);
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(x);
+        if (exponent > 0 && (x >>> (exponent - 1)) == 3) {
+            exponent++;
+        }
+
+        BigDecimal m = new BigDecimal(x).divide(BigDecimal.valueOf(2).pow(exponent), context);
+        BigDecimal value = doubleAtanh(m.subtract(BigDecimal.ONE).divide(m.add(BigDecimal.ONE), context), context);
+        if (exponent != 0) {
+            value = value.add(log2(context).multiply(BigDecimal.valueOf(exponent)));
+        }
+
+        return value.round(mc);
+    }
+
+    private static BigDecimal log2(MathContext context) {
+        return doubleAtanh(BigDecimal.ONE.divide(BigDecimal.valueOf(3), context), context);
+    }
+
+    /**
+     * Returns 2 * atanh(z) = 2 * (z + z<sup>3</sup>/3 + z<sup>5</sup>/5 + ...) for |z| &le; 1/3
+     */
+    private static BigDecimal doubleAtanh(BigDecimal z, MathContext context) {
+        BigDecimal epsilon = BigDecimal.ONE.movePointLeft(context.getPrecision());
+        BigDecimal zSquare = z.multiply(z, context);
+        BigDecimal power = z;
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int k = 1; power.abs().compareTo(epsilon) > 0; k += 2) {
+            sum = sum.add(power.divide(BigDecimal.valueOf(k), context));
+            power = power.multiply(zSquare, context);
+        }
+
+        return sum.add(sum);
+    }
+
+    /**
+     * Returns exponent of number.
+     * @param x number from the range [0, 3]
+     * @param mc context of result (precision isn't more than {@link #MAX_PRECISION})
+     * @return e<sup>x</sup>
+     * @implNote Taylor series 1 + x + x<sup>2</sup>/2! + ... is used
+     */
+    static BigDecimal exp(BigDecimal x, MathContext mc) {
+        MathContext context = guardContext(mc);
+        BigDecimal epsilon = BigDecimal.ONE.movePointLeft(context.getPrecision());
+        BigDecimal term = BigDecimal.ONE;
+        BigDecimal sum = BigDecimal.ZERO;
+        for (int k = 1; term.compareTo(epsilon) > 0; k++) {
+            sum = sum.add(term);
+            term = term.multiply(x).divide(BigDecimal.valueOf(k), context);
+        }
+
+        return sum.round(mc);
+    }
+
+    /**
+     * Returns &lfloor;value&rfloor; + 1 for logarithm of number, that is count of digits of number in the number system
+     * with the given base.
+     * @param logValue natural logarithm of number
+     * @param base base of number system
+     * @param mc context of calculation
+     * @return count of digits of number
+     */
+    static long digits(BigDecimal logValue, long base, MathContext mc) {
+        BigDecimal value = logValue.divide(log(base, mc), mc);
+        return value.setScale(0, RoundingMode.FLOOR).longValueExact() + 1;
+    }
+
+    private static MathContext guardContext(MathContext mc) {
+        return new MathContext(Math.min(mc.getPrecision(), MAX_PRECISION) + GUARD_DIGITS, RoundingMode.HALF_EVEN);
+    }
+}
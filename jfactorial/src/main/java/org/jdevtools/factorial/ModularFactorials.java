@@ -0,0 +1,304 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import java.math.BigInteger;
+
+/**
+ * Class for calculating factorials and combinations modulo number with primitive long arithmetic (without any
+ * {@link BigInteger} objects and other allocations, except for the construction of tables). Static methods calculate single values, and object of this class contains precomputed
+ * tables of factorials and inverse factorials modulo prime number, so every query costs O(1).
+ * <p>
+ *     <b>This class is thread-safe,</b> because object of this class is immutable and static methods don't change
+ *     states of class members.
+ * </p>
+ * @author Ilnur Nasybullin
+ */
+public final class ModularFactorials {
+
+    private final long modulus;
+    private final long[] factorials;
+    private final long[] inverseFactorials;
+
+    private ModularFactorials(long modulus, long[] factorials, long[] inverseFactorials) {
+        this.modulus = modulus;
+        this.factorials = factorials;
+        this.inverseFactorials = inverseFactorials;
+    }
+
+    /**
+     * Returns object with precomputed tables of factorials and inverse factorials from 0 to maxDigit modulo prime number.
+     * @param maxDigit maximal digit of factorial in the tables
+     * @param prime prime modulus
+     * @return object with precomputed tables
+     * @throws IllegalArgumentException if maxDigit is negative, or prime isn't prime number, or prime &le; maxDigit
+     * (n! modulo prime is equal to 0 for n &ge; prime and hasn't inverse value)
+     * @implNote Primality of modulus is checked by {@link BigInteger#isProbablePrime(int)} once. Inverse factorial of
+     * maxDigit is calculated by <a href=https://en.wikipedia.org/wiki/Fermat%27s_little_theorem>Fermat's little theorem</a>
+     * and other inverse factorials - by multiplication: 1/(i-1)! = i * 1/i!
+     */
+    public static ModularFactorials of(int maxDigit, long prime) {
+        if (maxDigit < 0) {
+            throw new IllegalArgumentException(String.format("digit is negative number! (maxDigit = %d)", maxDigit));
+        }
+
+        if (prime < 2 || !BigInteger.valueOf(prime).isProbablePrime(64)) {
+            throw new IllegalArgumentException(String.format("modulus isn't prime number! (prime = %d)", prime));
+        }
+
+        if (prime <= maxDigit) {
+            throw new IllegalArgumentException(
+                    String.format("modulus isn't more than maxDigit! (prime = %d, maxDigit = %d)", prime, maxDigit));
+        }
+
+        long[] factorials = new long[maxDigit + 1];
+        factorials[0] = 1L;
+        for (int i = 1; i <= maxDigit; i++) {
+            factorials[i] = multiplyMod(factorials[i - 1], i, prime);
+        }
+
+        long[] inverseFactorials = new long[maxDigit + 1];
+        inverseFactorials[maxDigit] = powMod(factorials[maxDigit], prime - 2, prime);
+        for (int i = maxDigit; i > 0; i--) {
+            inverseFactorials[i - 1] = multiplyMod(inverseFactorials[i], i, prime);
+        }
+
+        return new ModularFactorials(prime, factorials, inverseFactorials);
+    }
+
+    /**
+     * Returns factorial of digit modulo prime number of tables.
+     * @param n digit of factorial
+     * @return n! mod prime
+     * @throws IllegalArgumentException if n is negative or more than max digit of tables
+     */
+    public long factorial(int n) {
+        checkDigit(n);
+        return factorials[n];
+    }
+
+    /**
+     * Returns inverse factorial of digit modulo prime number of tables, i.e. number x, that x * n! &equiv; 1 (mod prime).
+     * @param n digit of factorial
+     * @return (n!)<sup>-1</sup> mod prime
+     * @throws IllegalArgumentException if n is negative or more than max digit of tables
+     */
+    public long inverseFactorial(int n) {
+        checkDigit(n);
+        return inverseFactorials[n];
+    }
+
+    /**
+     * Returns combination of n things taken k at a time without repetition modulo prime number of tables. If n is more
+     * than max digit of tables and tables contain all digits from 0 to prime - 1, combination is calculated by
+     * <a href=https://en.wikipedia.org/wiki/Lucas%27s_theorem>Lucas's theorem</a>.
+     * @param n things count
+     * @param k taken things count
+     * @return C(n,k) mod prime
+     * @throws IllegalArgumentException if k &lt; 0 or n &lt; k, or n is more than max digit of tables, and max digit of
+     * tables is less than prime - 1
+     */
+    public long combinations(long n, long k) {
+        checkCombinations(n, k);
+
+        if (n < factorials.length) {
+            return tableCombinations((int) n, (int) k);
+        }
+
+        if (factorials.length != modulus) {
+            throw new IllegalArgumentException(String.format("n = %d is more than max digit of tables = %d!",
+                    n, factorials.length - 1));
+        }
+
+        long result = 1L;
+        while (k != 0L && result != 0L) {
+            result = multiplyMod(result, tableCombinations((int) (n % modulus), (int) (k % modulus)), modulus);
+            n /= modulus;
+            k /= modulus;
+        }
+
+        return result;
+    }
+
+    private long tableCombinations(int n, int k) {
+        if (k > n) {
+            return 0L;
+        }
+
+        return multiplyMod(multiplyMod(factorials[n], inverseFactorials[k], modulus), inverseFactorials[n - k], modulus);
+    }
+
+    private void checkDigit(int n) {
+        checkOnNegative(n);
+        if (n >= factorials.length) {
+            throw new IllegalArgumentException(String.format("n = %d is more than max digit of tables = %d!",
+                    n, factorials.length - 1));
+        }
+    }
+
+    /**
+     * Returns prime modulus of tables
+     * @return prime modulus
+     */
+    public long getModulus() {
+        return modulus;
+    }
+
+    /**
+     * Returns max digit of factorial in the tables
+     * @return max digit of factorial
+     */
+    public int getMaxDigit() {
+        return factorials.length - 1;
+    }
+
+    /**
+     * Returns factorial of digit modulo number.
+     * @param n digit of factorial
+     * @param modulus modulus
+     * @return n! mod modulus
+     * @throws IllegalArgumentException if n is negative or modulus isn't positive number
+     * @implNote If n &ge; modulus, then n! is multiple of modulus and 0 is returned immediately. Otherwise, natural series
+     * from 2 to n is multiplied modulo number in a loop (loop is finished, if product becomes 0)
+     */
+    public static long factorialMod(long n, long modulus) {
+        checkOnNegative(n);
+        checkModulus(modulus);
+
+        if (n >= modulus) {
+            return 0L;
+        }
+
+        long result = 1L;
+        for (long i = 2; i <= n && result != 0L; i++) {
+            result = multiplyMod(result, i, modulus);
+        }
+
+        return result % modulus;
+    }
+
+    /**
+     * Returns combination of n things taken k at a time without repetition modulo prime number. Combination is
+     * calculated by <a href=https://en.wikipedia.org/wiki/Lucas%27s_theorem>Lucas's theorem</a>:
+     * C(n,k) &equiv; C(n<sub>0</sub>,k<sub>0</sub>) * C(n<sub>1</sub>,k<sub>1</sub>) * ... (mod p), where
+     * n<sub>i</sub> and k<sub>i</sub> - digits of n and k in number system with base p.
+     * @param n things count
+     * @param k taken things count
+     * @param prime prime modulus (primality isn't checked)
+     * @return C(n,k) mod prime
+     * @throws IllegalArgumentException if k &lt; 0 or n &lt; k, or prime &lt; 2
+     * @implNote Every combination of digits C(n<sub>i</sub>,k<sub>i</sub>) is calculated in O(p) operations, so this
+     * method is intended for small prime numbers. For a lot of queries with the same modulus use tables
+     * ({@link #of(int, long)} and {@link #combinations(long, long)})
+     */
+    public static long combinationsMod(long n, long k, long prime) {
+        checkCombinations(n, k);
+        if (prime < 2) {
+            throw new IllegalArgumentException(String.format("modulus isn't prime number! (prime = %d)", prime));
+        }
+
+        long result = 1L;
+        while (k != 0L && result != 0L) {
+            result = multiplyMod(result, digitCombinations(n % prime, k % prime, prime), prime);
+            n /= prime;
+            k /= prime;
+        }
+
+        return result % prime;
+    }
+
+    private static long digitCombinations(long n, long k, long prime) {
+        if (k > n) {
+            return 0L;
+        }
+
+        k = Math.min(k, n - k);
+        long numerator = 1L;
+        long denominator = 1L;
+        for (long i = 1; i <= k; i++) {
+            numerator = multiplyMod(numerator, n - k + i, prime);
+            denominator = multiplyMod(denominator, i, prime);
+        }
+
+        return multiplyMod(numerator, powMod(denominator, prime - 2, prime), prime);
+    }
+
+    /**
+     * Returns a * b mod modulus without overflow of long type.
+     * @param a non-negative number, that is less than modulus
+     * @param b non-negative number, that is less than modulus
+     * @param modulus positive modulus
+     * @return a * b mod modulus
+     */
+    static long multiplyMod(long a, long b, long modulus) {
+        if (((a | b) >>> 31) == 0L || (Math.multiplyHigh(a, b) == 0L && a * b >= 0L)) {
+            return a * b % modulus;
+        }
+
+        long result = 0L;
+        while (b != 0L) {
+            if ((b & 1L) == 1L) {
+                result = addMod(result, a, modulus);
+            }
+            a = addMod(a, a, modulus);
+            b >>>= 1;
+        }
+
+        return result;
+    }
+
+    private static long addMod(long a, long b, long modulus) {
+        long result = a - modulus + b;
+        return result < 0L ? result + modulus : result;
+    }
+
+    private static long powMod(long base, long exponent, long modulus) {
+        long result = 1L % modulus;
+        while (exponent != 0L) {
+            if ((exponent & 1L) == 1L) {
+                result = multiplyMod(result, base, modulus);
+            }
+            base = multiplyMod(base, base, modulus);
+            exponent >>>= 1;
+        }
+
+        return result;
+    }
+
+    private static void checkCombinations(long n, long k) {
+        if (n < k) {
+            throw new IllegalArgumentException(String.format("k = %d is more than n = %d!", k, n));
+        }
+
+        if (k < 0L) {
+            throw new IllegalArgumentException(String.format("k = %d is negative number!", k));
+        }
+    }
+
+    private static void checkModulus(long modulus) {
+        if (modulus <= 0L) {
+            throw new IllegalArgumentException(String.format("modulus isn't positive number! (modulus = %d)", modulus));
+        }
+    }
+
+    private static void checkOnNegative(long n) {
+        if (n < 0L) {
+            throw new IllegalArgumentException(String.format("digit is negative number! (n = %d)", n));
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import java.math.BigInteger;
+
+/**
+ * Factorial value in the compact representation n! = o * 2<sup>e</sup>, where o - odd part of factorial value, and
+ * e - exponent of 2 in n! (see {@link Factorials#oddPartFactorial(int)}). Odd part is calculated without any
+ * multiplications by powers of 2, so intermediate operands are smaller, and full factorial value is calculated by
+ * the shift of odd part only if it's needed ({@link #toBigInteger()}).
+ * <p>
+ *     <b>This class is thread-safe,</b> because object of this class is immutable.
+ * </p>
+ * @author Ilnur Nasybullin
+ */
+public final class OddPartFactorial {
+
+    private final int n;
+    private final BigInteger oddPart;
+    private final int twoExponent;
+
+    OddPartFactorial(int n, BigInteger oddPart, int twoExponent) {
+        this.n = n;
+        this.oddPart = oddPart;
+        this.twoExponent = twoExponent;
+    }
+
+    /**
+     * Returns digit of factorial
+     * @return digit of factorial
+     */
+    public int getDigit() {
+        return n;
+    }
+
+    /**
+     * Returns odd part of factorial value
+     * @return odd part of factorial value
+     */
+    public BigInteger getOddPart() {
+        return oddPart;
+    }
+
+    /**
+     * Returns exponent of 2 in factorial value
+     * @return exponent of 2
+     */
+    public int getTwoExponent() {
+        return twoExponent;
+    }
+
+    /**
+     * Returns bit length of factorial value (see {@link BigInteger#bitLength()}) without the calculating of factorial
+     * value
+     * @return bit length of factorial value
+     */
+    public long bitLength() {
+        return (long) oddPart.bitLength() + twoExponent;
+    }
+
+    /**
+     * Returns factorial value, that is calculated by the shift of odd part
+     * @return factorial value
+     */
+    public BigInteger toBigInteger() {
+        return oddPart.shiftLeft(twoExponent);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof OddPartFactorial)) {
+            return false;
+        }
+
+        OddPartFactorial that = (OddPartFactorial) o;
+        return n == that.n;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(n);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d! = o * 2^%d (bit length of o = %d)", n, twoExponent, oddPart.bitLength());
+    }
+}
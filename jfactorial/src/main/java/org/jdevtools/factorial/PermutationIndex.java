@@ -0,0 +1,437 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Utility class for ranking and unranking of permutations by <a href=https://en.wikipedia.org/wiki/Lehmer_code>Lehmer
+ * code</a>, that is the representation of permutation's rank in the
+ * <a href=https://en.wikipedia.org/wiki/Factorial_number_system>factorial number system</a>
+ * (see {@link FactorialNumberSystems}). Permutation of length n is an array of all numbers from 0 to n-1, and ranks
+ * of permutations (from 0 to n!-1) are equal to their lexicographic order.
+ * <p>
+ *     For the searching of element by its order among remaining elements (and vice versa) is used
+ *     <a href=https://en.wikipedia.org/wiki/Fenwick_tree>Fenwick tree</a>, so ranking and unranking costs
+ *     O(n log n) operations (without operations of the conversion to the factorial number system).
+ * </p>
+ * <p>
+ *     <b>This class is thread-safe,</b> because it's not possible to construct object of this class, and this class
+ *     hasn't anything states.
+ * </p>
+ * @author Ilnur Nasybullin
+ */
+public final class PermutationIndex {
+
+    /**
+     * Maximal length of permutation, for which all ranks fits into long type
+     */
+    private final static int MAX_LONG_LENGTH = Factorials.maxLongFactorialDigit();
+
+    /**
+     * Private constructor for the inability to construct an object of this class.
+     */
+    private PermutationIndex() {}
+
+    /**
+     * Returns permutation of length n with the rank.
+     * @param rank rank of permutation
+     * @param n length of permutation
+     * @return permutation
+     * @throws NullPointerException if rank is null
+     * @throws IllegalArgumentException if n is negative, or rank is negative or not less than n!
+     */
+    public static int[] unrank(BigInteger rank, int n) {
+        if (rank == null) {
+            throw new NullPointerException("Rank is null!");
+        }
+
+        checkLength(n);
+        if (rank.signum() < 0) {
+            throw new IllegalArgumentException(String.format("rank is negative number! (rank = %s)", rank));
+        }
+
+        int[] digits = FactorialNumberSystems.decimal2IntFactorials(rank);
+        if (digits.length >= Math.max(n, 1)) {
+            throw new IllegalArgumentException(String.format("rank isn't less than %d! (rank = %s)", n, rank));
+        }
+
+        int[] lehmerCode = new int[n];
+        for (int i = 0; i < digits.length; i++) {
+            lehmerCode[n - 2 - i] = digits[i];
+        }
+
+        return fromLehmerCode(lehmerCode);
+    }
+
+    /**
+     * Returns permutation of length n with the rank of long type.
+     * @param rank rank of permutation
+     * @param n length of permutation
+     * @return permutation
+     * @throws IllegalArgumentException if n is negative, or rank is negative or not less than n!
+     */
+    public static int[] unrank(long rank, int n) {
+        checkLength(n);
+        checkLongRank(rank, n);
+
+        int[] permutation = new int[n];
+        unrank(rank, permutation);
+        return permutation;
+    }
+
+    private static void checkLength(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException(String.format("length is negative number! (n = %d)", n));
+        }
+    }
+
+    private static void checkLongRank(long rank, int n) {
+        if (rank < 0L) {
+            throw new IllegalArgumentException(String.format("rank is negative number! (rank = %d)", rank));
+        }
+
+        if (n <= MAX_LONG_LENGTH && rank >= Factorials.longFactorial(n).get()) {
+            throw new IllegalArgumentException(String.format("rank isn't less than %d! (rank = %d)", n, rank));
+        }
+    }
+
+    /**
+     * Writes permutation with the rank (that has been checked) into array
+     */
+    private static void unrank(long rank, int[] permutation) {
+        int n = permutation.length;
+        for (int i = n - 1, radix = 1; i >= 0; i--, radix++) {
+            permutation[i] = (int) (rank % radix);
+            rank /= radix;
+        }
+
+        fromLehmerCode(permutation);
+    }
+
+    /**
+     * Replaces Lehmer code in the array by the permutation
+     */
+    private static int[] fromLehmerCode(int[] code) {
+        int n = code.length;
+        int[] tree = fullFenwickTree(n);
+        int highestBit = Integer.highestOneBit(Math.max(n, 1));
+
+        for (int i = 0; i < n; i++) {
+            // searching of the (code[i] + 1)-th remaining element by binary lifting
+            int position = 0;
+            int remaining = code[i] + 1;
+            for (int bit = highestBit; bit != 0; bit >>>= 1) {
+                int next = position + bit;
+                if (next <= n && tree[next] < remaining) {
+                    position = next;
+                    remaining -= tree[next];
+                }
+            }
+
+            code[i] = position;
+            remove(tree, position + 1);
+        }
+
+        return code;
+    }
+
+    /**
+     * Returns rank of permutation.
+     * @param permutation permutation of numbers from 0 to n-1
+     * @return rank of permutation
+     * @throws NullPointerException if permutation is null
+     * @throws IllegalArgumentException if array isn't permutation of numbers from 0 to n-1
+     */
+    public static BigInteger rank(int[] permutation) {
+        int[] code = lehmerCode(permutation);
+        int n = code.length;
+        if (n <= MAX_LONG_LENGTH) {
+            return BigInteger.valueOf(rank(code, n));
+        }
+
+        int[] digits = new int[n - 1];
+        for (int i = 0; i < n - 1; i++) {
+            digits[i] = code[n - 2 - i];
+        }
+
+        return FactorialNumberSystems.intFactorials2Decimal(digits);
+    }
+
+    /**
+     * Returns rank of permutation of long type.
+     * @param permutation permutation of numbers from 0 to n-1
+     * @return rank of permutation
+     * @throws NullPointerException if permutation is null
+     * @throws IllegalArgumentException if array isn't permutation of numbers from 0 to n-1
+     * @throws ArithmeticException if rank overflows long type
+     */
+    public static long longRank(int[] permutation) {
+        int[] code = lehmerCode(permutation);
+        return rank(code, code.length);
+    }
+
+    private static long rank(int[] code, int n) {
+        long rank = 0L;
+        for (int i = 0, radix = n; i < n; i++, radix--) {
+            rank = Math.addExact(Math.multiplyExact(rank, radix), code[i]);
+        }
+
+        return rank;
+    }
+
+    private static int[] lehmerCode(int[] permutation) {
+        if (permutation == null) {
+            throw new NullPointerException("Permutation is null!");
+        }
+
+        int n = permutation.length;
+        int[] tree = fullFenwickTree(n);
+        int[] code = new int[n];
+        for (int i = 0; i < n; i++) {
+            int element = permutation[i];
+            if (element < 0 || element >= n || prefixSum(tree, element + 1) == prefixSum(tree, element)) {
+                throw new IllegalArgumentException(String.format(
+                        "array isn't permutation! (permutation[%d] = %d)", i, element));
+            }
+
+            code[i] = prefixSum(tree, element);
+            remove(tree, element + 1);
+        }
+
+        return code;
+    }
+
+    /**
+     * Returns Fenwick tree (1-indexed) of n remaining elements
+     */
+    private static int[] fullFenwickTree(int n) {
+        int[] tree = new int[n + 1];
+        for (int i = 1; i <= n; i++) {
+            tree[i] = i & -i;
+        }
+
+        return tree;
+    }
+
+    private static void remove(int[] tree, int index) {
+        for (int i = index; i < tree.length; i += i & -i) {
+            tree[i]--;
+        }
+    }
+
+    private static int prefixSum(int[] tree, int index) {
+        int sum = 0;
+        for (int i = index; i > 0; i -= i & -i) {
+            sum += tree[i];
+        }
+
+        return sum;
+    }
+
+    /**
+     * Rearranges permutation into the next permutation in the order of ranks (lexicographic order).
+     * @param permutation permutation, that is changed in place
+     * @return true, if permutation has been rearranged, or false, if permutation is the last one (and it's not changed)
+     * @throws NullPointerException if permutation is null
+     * @apiNote this method doesn't check, that array is permutation of numbers from 0 to n-1, so it can be used for
+     * any arrays of distinct numbers
+     */
+    public static boolean nextPermutation(int[] permutation) {
+        if (permutation == null) {
+            throw new NullPointerException("Permutation is null!");
+        }
+
+        int i = permutation.length - 2;
+        while (i >= 0 && permutation[i] >= permutation[i + 1]) {
+            i--;
+        }
+
+        if (i < 0) {
+            return false;
+        }
+
+        int j = permutation.length - 1;
+        while (permutation[j] <= permutation[i]) {
+            j--;
+        }
+
+        swap(permutation, i, j);
+        for (int lo = i + 1, hi = permutation.length - 1; lo < hi; lo++, hi--) {
+            swap(permutation, lo, hi);
+        }
+
+        return true;
+    }
+
+    private static void swap(int[] array, int i, int j) {
+        int value = array[i];
+        array[i] = array[j];
+        array[j] = value;
+    }
+
+    /**
+     * Returns iterator over permutations in the order of ranks, starting from the permutation (inclusive). Iterator
+     * doesn't allocate new arrays: every call of {@link Iterator#next()} rearranges the permutation in place (see
+     * {@link #nextPermutation(int[])}) and returns the same array.
+     * @param permutation first permutation, that is changed by iterator
+     * @return iterator over permutations
+     * @throws NullPointerException if permutation is null
+     * @apiNote returned array mustn't be changed by caller, and it must be copied, if it's needed to save permutation
+     */
+    public static Iterator<int[]> iterator(int[] permutation) {
+        if (permutation == null) {
+            throw new NullPointerException("Permutation is null!");
+        }
+
+        return new Iterator<>() {
+
+            private boolean started;
+            private boolean hasNext = true;
+
+            @Override
+            public boolean hasNext() {
+                if (started && hasNext) {
+                    hasNext = nextPermutation(permutation);
+                    started = false;
+                }
+
+                return hasNext;
+            }
+
+            @Override
+            public int[] next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                started = true;
+                return permutation;
+            }
+        };
+    }
+
+    /**
+     * Returns spliterator over all permutations of length n in the order of ranks
+     * (see {@link #spliterator(int, long, long)}).
+     * @param n length of permutation
+     * @return spliterator over permutations
+     * @throws IllegalArgumentException if n is negative or n! overflows long type
+     */
+    public static Spliterator<int[]> spliterator(int n) {
+        checkLength(n);
+        if (n > MAX_LONG_LENGTH) {
+            throw new IllegalArgumentException(String.format("n! overflows long type! (n = %d)", n));
+        }
+
+        return new PermutationSpliterator(n, 0L, Factorials.longFactorial(n).get());
+    }
+
+    /**
+     * Returns spliterator over permutations of length n with ranks from fromRank to toRank (exclusive) in the order
+     * of ranks. Spliterator is split by ranges of ranks. Every part of spliterator allocates one array for permutation
+     * (see {@link #unrank(long, int)}) and then rearranges it in place (see {@link #nextPermutation(int[])}), so the
+     * same array is passed to the action of every traversal.
+     * @param n length of permutation
+     * @param fromRank rank of the first permutation (inclusive)
+     * @param toRank rank of the last permutation (exclusive)
+     * @return spliterator over permutations
+     * @throws IllegalArgumentException if n is negative, or fromRank is negative, or toRank is less than fromRank or
+     * more than n!
+     * @apiNote passed array mustn't be changed by action, and it must be copied, if it's needed to save permutation
+     * (for example, {@code StreamSupport.stream(spliterator, true).map(int[]::clone)})
+     */
+    public static Spliterator<int[]> spliterator(int n, long fromRank, long toRank) {
+        checkLength(n);
+        if (fromRank < 0L) {
+            throw new IllegalArgumentException(String.format("rank is negative number! (fromRank = %d)", fromRank));
+        }
+
+        if (toRank < fromRank) {
+            throw new IllegalArgumentException(String.format("toRank = %d is less than fromRank = %d!", toRank, fromRank));
+        }
+
+        if (n <= MAX_LONG_LENGTH && toRank > Factorials.longFactorial(n).get()) {
+            throw new IllegalArgumentException(String.format("toRank is more than %d! (toRank = %d)", n, toRank));
+        }
+
+        return new PermutationSpliterator(n, fromRank, toRank);
+    }
+
+    private static class PermutationSpliterator implements Spliterator<int[]> {
+
+        private final int n;
+        private long origin;
+        private final long fence;
+        private int[] permutation;
+
+        private PermutationSpliterator(int n, long origin, long fence) {
+            this.n = n;
+            this.origin = origin;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super int[]> action) {
+            if (action == null) {
+                throw new NullPointerException("Action is null!");
+            }
+
+            if (origin >= fence) {
+                return false;
+            }
+
+            if (permutation == null) {
+                permutation = new int[n];
+                unrank(origin, permutation);
+            } else {
+                nextPermutation(permutation);
+            }
+
+            origin++;
+            action.accept(permutation);
+            return true;
+        }
+
+        @Override
+        public Spliterator<int[]> trySplit() {
+            if (permutation != null || fence - origin < 2) {
+                return null;
+            }
+
+            long middle = origin + (fence - origin) / 2;
+            Spliterator<int[]> prefix = new PermutationSpliterator(n, origin, middle);
+            origin = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - origin;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL;
+        }
+    }
+}
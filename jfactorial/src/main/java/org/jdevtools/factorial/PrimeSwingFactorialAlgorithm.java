@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * Implementation of {@link FactorialAlgorithm} by the prime swing algorithm of Peter Luschny
+ * (see {@link FactorialAlgorithm#primeSwing()}).
+ * @implNote Factorial is calculated as n! = 2<sup>e</sup> * o(n), where e = n - (count of 1 bits of n) - exponent of
+ * 2 in n! by Legendre's formula, and o(n) - odd part of n!. The odd part is calculated recursively:
+ * o(n) = o(&lfloor;n/2&rfloor;)<sup>2</sup> * s(n), where s(n) - odd part of swinging factorial. Exponent of prime p in
+ * the swinging factorial is equal to count of odd numbers &lfloor;n/p<sup>i</sup>&rfloor; (i &ge; 1) and the prime
+ * power is never more than n, so s(n) is a product of small numbers, that is multiplied by binary splitting. Prime
+ * numbers are sieved once for all recursion levels.
+ * @author Ilnur Nasybullin
+ */
+final class PrimeSwingFactorialAlgorithm implements FactorialAlgorithm {
+
+    final static PrimeSwingFactorialAlgorithm INSTANCE = new PrimeSwingFactorialAlgorithm();
+
+    private PrimeSwingFactorialAlgorithm() {}
+
+    @Override
+    public BigInteger factorial(int n) {
+        if (n <= Factorials.maxLongFactorialDigit()) {
+            return BigInteger.valueOf(Factorials.longFactorial(n).get());
+        }
+
+        return oddFactorial(n).shiftLeft(n - Integer.bitCount(n));
+    }
+
+    /**
+     * Returns odd part of n!, i.e. n! / 2<sup>e</sup>, where e = n - (count of 1 bits of n) - exponent of 2 in n!
+     * @param n digit of factorial (non-negative number)
+     * @return odd part of n!
+     */
+    static BigInteger oddFactorial(int n) {
+        if (n <= Factorials.maxLongFactorialDigit()) {
+            return oddFactorial(n, null);
+        }
+
+        return oddFactorial(n, Primes.primes(n));
+    }
+
+    private static BigInteger oddFactorial(int n, int[] primes) {
+        if (n <= Factorials.maxLongFactorialDigit()) {
+            return BigInteger.valueOf(Factorials.longFactorial(n).get() >> (n - Integer.bitCount(n)));
+        }
+
+        BigInteger half = oddFactorial(n / 2, primes);
+        return half.multiply(half).multiply(oddSwing(n, primes));
+    }
+
+    private static BigInteger oddSwing(int n, int[] primes) {
+        int primesCount = Arrays.binarySearch(primes, n);
+        primesCount = primesCount < 0 ? -primesCount - 1 : primesCount + 1;
+
+        int[] factors = new int[primesCount];
+        int count = 0;
+        for (int i = 1; i < primesCount; i++) {
+            int p = primes[i];
+            int q = n;
+            long power = 1L;
+            while ((q /= p) > 0) {
+                if ((q & 1) == 1) {
+                    power *= p;
+                }
+            }
+
+            if (power != 1L) {
+                factors[count++] = (int) power;
+            }
+        }
+
+        return ProductTree.product(factors, 0, count);
+    }
+
+    @Override
+    public String toString() {
+        return "primeSwing";
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jdevtools.factorial;
+
+/**
+ * Internal utility class for the prime numbers: sieving and
+ * <a href=https://en.wikipedia.org/wiki/Legendre%27s_formula>Legendre's formula</a>.
+ * <p>
+ *     <b>This class is thread-safe,</b> because it's not possible to construct object of this class, and this class
+ *     hasn't anything states.
+ * </p>
+ * @author Ilnur Nasybullin
+ */
+final class Primes {
+
+    /**
+     * Private constructor for the inability to construct an object of this class.
+     */
+    private Primes() {}
+
+    /**
+     * Returns ascending array of all prime numbers, that are not more than n. For sieving is used
+     * <a href=https://en.wikipedia.org/wiki/Sieve_of_Eratosthenes>sieve of Eratosthenes</a> over bit set of odd numbers.
+     * @param n upper bound (inclusive) of prime numbers
+     * @return array of prime numbers (empty array, if n &lt; 2)
+     */
+    static int[] primes(int n) {
+        if (n < 2) {
+            return new int[0];
+        }
+
+        // i-th bit is set, if number 2i + 1 is composite
+        int oddCount = (int) (((long) n + 1) >>> 1);
+        long[] composites = new long[(oddCount + 63) >>> 6];
+        for (long i = 1; 2 * i * (i + 1) < oddCount; i++) {
+            if ((composites[(int) (i >>> 6)] & (1L << i)) == 0) {
+                long p = 2 * i + 1;
+                for (long j = 2 * i * (i + 1); j < oddCount; j += p) {
+                    composites[(int) (j >>> 6)] |= 1L << j;
+                }
+            }
+        }
+
+        int count = 1;
+        for (int i = 1; i < oddCount; i++) {
+            if ((composites[i >>> 6] & (1L << i)) == 0) {
+                count++;
+            }
+        }
+
+        int[] primes = new int[count];
+        primes[0] = 2;
+        int index = 1;
+        for (int i = 1; i < oddCount; i++) {
+            if ((composites[i >>> 6] & (1L << i)) == 0) {
+                primes[index++] = 2 * i + 1;
+            }
+        }
+
+        return primes;
+    }
+
+    /**
+     * Returns exponent of prime number p in the factorization of n! by Legendre's formula:
+     * <p>v<sub>p</sub>(n!) = &lfloor;n/p&rfloor; + &lfloor;n/p<sup>2</sup>&rfloor; + ...</p>
+     * @param n digit of factorial (non-negative)
+     * @param p prime number
+     * @return exponent of p in n!
+     */
+    static long legendre(long n, long p) {
+        long exponent = 0L;
+        while (n >= p) {
+            n /= p;
+            exponent += n;
+        }
+
+        return exponent;
+    }
+}
@@ -0,0 +1,253 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jdevtools.factorial;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Internal utility class for multiplication of natural series by
+ * <a href=https://en.wikipedia.org/wiki/Binary_splitting>binary splitting</a>. The series is divided into two halves,
+ * every half is multiplied recursively and only then the halves are multiplied to each other. Thus, the operands of
+ * every multiplication have approximately the same length and {@link BigInteger} can use Karatsuba and Toom-Cook
+ * algorithms instead of the schoolbook multiplication of huge number by small one.
+ * <p>
+ *     <b>This class is thread-safe,</b> because it's not possible to construct object of this class, and this class
+ *     hasn't anything states.
+ * </p>
+ * @author Ilnur Nasybullin
+ */
+final class ProductTree {
+
+    /**
+     * Maximal count of numbers, that are multiplied sequentially (over long type variable) without splitting
+     */
+    private final static int LEAF_LENGTH = 32;
+
+    /**
+     * Minimal count of numbers, for which multiplication of halves is performed in parallel
+     */
+    private final static int PARALLEL_LENGTH = 1 << 12;
+
+    /**
+     * Private constructor for the inability to construct an object of this class.
+     */
+    private ProductTree() {}
+
+    /**
+     * Returns product of natural series from startInclusive to endExclusive (exclusive), calculated in current thread.
+     * @param startInclusive first (positive) number of series
+     * @param endExclusive number after the last number of series
+     * @return product of series or {@link BigInteger#ONE}, if series is empty
+     */
+    static BigInteger product(int startInclusive, int endExclusive) {
+        return progressionProduct(startInclusive, endExclusive, 1);
+    }
+
+    /**
+     * Returns product of natural series from startInclusive to endExclusive (exclusive), calculated in the pool.
+     * @param startInclusive first (positive) number of series
+     * @param endExclusive number after the last number of series
+     * @param pool pool for parallel multiplication
+     * @return product of series or {@link BigInteger#ONE}, if series is empty
+     */
+    static BigInteger product(int startInclusive, int endExclusive, ForkJoinPool pool) {
+        if (endExclusive - startInclusive < PARALLEL_LENGTH) {
+            return product(startInclusive, endExclusive);
+        }
+
+        return pool.invoke(new RangeProductTask(startInclusive, endExclusive, 1));
+    }
+
+    /**
+     * Returns product of odd numbers from startInclusive to endExclusive (exclusive), calculated in the pool.
+     * @param startInclusive first (positive) bound of series
+     * @param endExclusive bound after the last number of series
+     * @param pool pool for parallel multiplication
+     * @return product of odd numbers of series or {@link BigInteger#ONE}, if there aren't any odd numbers in series
+     */
+    static BigInteger oddProduct(int startInclusive, int endExclusive, ForkJoinPool pool) {
+        int start = startInclusive | 1;
+        if (endExclusive - start < 2 * PARALLEL_LENGTH) {
+            return progressionProduct(start, endExclusive, 2);
+        }
+
+        return pool.invoke(new RangeProductTask(start, endExclusive, 2));
+    }
+
+    /**
+     * Returns product of arithmetic progression with the step from startInclusive to endExclusive (exclusive).
+     */
+    private static BigInteger progressionProduct(int startInclusive, int endExclusive, int step) {
+        if (endExclusive - startInclusive <= LEAF_LENGTH * step) {
+            return leafProduct(startInclusive, endExclusive, step);
+        }
+
+        int middle = middle(startInclusive, endExclusive, step);
+        return progressionProduct(startInclusive, middle, step).multiply(progressionProduct(middle, endExclusive, step));
+    }
+
+    /**
+     * Returns member of arithmetic progression in the middle of series
+     */
+    private static int middle(int startInclusive, int endExclusive, int step) {
+        int count = (endExclusive - startInclusive + step - 1) / step;
+        return startInclusive + (count >>> 1) * step;
+    }
+
+    /**
+     * Returns products of consecutive segments of natural series, calculated in the pool: i-th product is product of
+     * series from bounds[i] to bounds[i + 1] (exclusive). Segments are multiplied in parallel.
+     * @param bounds non-decreasing bounds of segments (positive numbers)
+     * @param pool pool for parallel multiplication
+     * @return products of segments (array with length bounds.length - 1)
+     */
+    static BigInteger[] products(int[] bounds, ForkJoinPool pool) {
+        BigInteger[] products = new BigInteger[Math.max(bounds.length - 1, 0)];
+        if (products.length > 0) {
+            pool.invoke(new SegmentsProductTask(bounds, products, 0, products.length));
+        }
+
+        return products;
+    }
+
+    /**
+     * Returns product of values from fromIndex to toIndex (exclusive), calculated in current thread.
+     * @param values multiplied values
+     * @param fromIndex index of the first multiplied value
+     * @param toIndex index after the last multiplied value
+     * @return product of values or {@link BigInteger#ONE}, if range is empty
+     */
+    static BigInteger product(BigInteger[] values, int fromIndex, int toIndex) {
+        if (toIndex - fromIndex <= 0) {
+            return BigInteger.ONE;
+        }
+
+        if (toIndex - fromIndex == 1) {
+            return values[fromIndex];
+        }
+
+        int middle = (fromIndex + toIndex) >>> 1;
+        return product(values, fromIndex, middle).multiply(product(values, middle, toIndex));
+    }
+
+    /**
+     * Returns product of (positive) values from fromIndex to toIndex (exclusive), calculated in current thread.
+     * @param values multiplied values
+     * @param fromIndex index of the first multiplied value
+     * @param toIndex index after the last multiplied value
+     * @return product of values or {@link BigInteger#ONE}, if range is empty
+     */
+    static BigInteger product(int[] values, int fromIndex, int toIndex) {
+        if (toIndex - fromIndex <= LEAF_LENGTH) {
+            BigInteger result = BigInteger.ONE;
+            long termResult = 1L;
+
+            for (int i = fromIndex; i < toIndex; i++) {
+                if (Long.numberOfLeadingZeros(termResult) + Integer.numberOfLeadingZeros(values[i]) < 33) {
+                    result = result.multiply(BigInteger.valueOf(termResult));
+                    termResult = 1L;
+                }
+                termResult *= values[i];
+            }
+
+            return termResult == 1L ? result : result.multiply(BigInteger.valueOf(termResult));
+        }
+
+        int middle = (fromIndex + toIndex) >>> 1;
+        return product(values, fromIndex, middle).multiply(product(values, middle, toIndex));
+    }
+
+    private static BigInteger leafProduct(int startInclusive, int endExclusive, int step) {
+        BigInteger result = BigInteger.ONE;
+        long termResult = 1L;
+
+        for (int i = startInclusive; i < endExclusive; i += step) {
+            if (Long.numberOfLeadingZeros(termResult) + Integer.numberOfLeadingZeros(i) < 33) {
+                result = result.multiply(BigInteger.valueOf(termResult));
+                termResult = 1L;
+            }
+            termResult *= i;
+        }
+
+        return termResult == 1L ? result : result.multiply(BigInteger.valueOf(termResult));
+    }
+
+    /**
+     * Task for parallel multiplication of arithmetic progression (natural series or series of odd numbers). Halves of
+     * series are multiplied in parallel, while their count of numbers is not less than {@link #PARALLEL_LENGTH}.
+     */
+    private static class RangeProductTask extends RecursiveTask<BigInteger> {
+
+        private final int startInclusive;
+        private final int endExclusive;
+        private final int step;
+
+        private RangeProductTask(int startInclusive, int endExclusive, int step) {
+            this.startInclusive = startInclusive;
+            this.endExclusive = endExclusive;
+            this.step = step;
+        }
+
+        @Override
+        protected BigInteger compute() {
+            if (endExclusive - startInclusive < PARALLEL_LENGTH * step) {
+                return progressionProduct(startInclusive, endExclusive, step);
+            }
+
+            int middle = middle(startInclusive, endExclusive, step);
+            RangeProductTask left = new RangeProductTask(startInclusive, middle, step);
+            left.fork();
+
+            BigInteger right = new RangeProductTask(middle, endExclusive, step).compute();
+            return left.join().multiply(right);
+        }
+    }
+
+    /**
+     * Task for parallel multiplication of segments of natural series. Halves of segments are processed in parallel and
+     * every long segment is multiplied by {@link RangeProductTask}.
+     */
+    private static class SegmentsProductTask extends RecursiveAction {
+
+        private final int[] bounds;
+        private final BigInteger[] products;
+        private final int fromIndex;
+        private final int toIndex;
+
+        private SegmentsProductTask(int[] bounds, BigInteger[] products, int fromIndex, int toIndex) {
+            this.bounds = bounds;
+            this.products = products;
+            this.fromIndex = fromIndex;
+            this.toIndex = toIndex;
+        }
+
+        @Override
+        protected void compute() {
+            if (toIndex - fromIndex == 1) {
+                products[fromIndex] = new RangeProductTask(bounds[fromIndex], bounds[fromIndex + 1], 1).compute();
+                return;
+            }
+
+            int middle = (fromIndex + toIndex) >>> 1;
+            invokeAll(new SegmentsProductTask(bounds, products, fromIndex, middle),
+                    new SegmentsProductTask(bounds, products, middle, toIndex));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Implementation of {@link FactorialAlgorithm}, that multiplies natural series from 21 to n by balanced binary
+ * splitting in the pool (see {@link FactorialAlgorithm#productTree(ForkJoinPool)}).
+ * @author Ilnur Nasybullin
+ */
+final class ProductTreeFactorialAlgorithm implements FactorialAlgorithm {
+
+    private final ForkJoinPool pool;
+
+    ProductTreeFactorialAlgorithm(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public BigInteger factorial(int n) {
+        if (n <= Factorials.maxLongFactorialDigit()) {
+            return BigInteger.valueOf(Factorials.longFactorialValue(n));
+        }
+
+        return Factorials.productTreeFactorial(n, pool);
+    }
+
+    @Override
+    public String toString() {
+        return "productTree";
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import java.math.BigInteger;
+
+/**
+ * Implementation of {@link FactorialAlgorithm}, that multiplies natural series from 21 to n sequentially
+ * (see {@link FactorialAlgorithm#multiplyRange()}).
+ * @author Ilnur Nasybullin
+ */
+final class RangeFactorialAlgorithm implements FactorialAlgorithm {
+
+    final static RangeFactorialAlgorithm INSTANCE = new RangeFactorialAlgorithm();
+
+    private RangeFactorialAlgorithm() {}
+
+    @Override
+    public BigInteger factorial(int n) {
+        int k = Factorials.maxLongFactorialDigit();
+        if (n <= k) {
+            return BigInteger.valueOf(Factorials.longFactorial(n).get());
+        }
+
+        return BigInteger.valueOf(Factorials.longFactorial(k).get()).multiply(Factorials.multiplyRange(k + 1, n + 1));
+    }
+
+    @Override
+    public String toString() {
+        return "multiplyRange";
+    }
+}
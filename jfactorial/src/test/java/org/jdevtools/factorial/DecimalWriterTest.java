@@ -0,0 +1,101 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+/**
+ * Testing class for {@link DecimalWriter}.
+ */
+public class DecimalWriterTest {
+
+    @ParameterizedTest
+    @MethodSource("_write_Success_DataSet")
+    public void write_Success(BigInteger value) throws IOException {
+        String expected = value.toString();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            StringBuilder builder = new StringBuilder();
+            DecimalWriter.write(value, builder);
+            Assertions.assertEquals(expected, builder.toString());
+
+            StringWriter writer = new StringWriter();
+            DecimalWriter.write(value, writer, pool);
+            Assertions.assertEquals(expected, writer.toString());
+
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (WritableByteChannel channel = Channels.newChannel(bytes)) {
+                DecimalWriter.write(value, channel);
+            }
+            Assertions.assertEquals(expected, new String(bytes.toByteArray(), StandardCharsets.US_ASCII));
+
+            bytes.reset();
+            try (WritableByteChannel channel = Channels.newChannel(bytes)) {
+                DecimalWriter.write(value, channel, pool);
+            }
+            Assertions.assertEquals(expected, new String(bytes.toByteArray(), StandardCharsets.US_ASCII));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public static Stream<Arguments> _write_Success_DataSet() {
+        return Stream.of(
+                Arguments.of(BigInteger.ZERO),
+                Arguments.of(BigInteger.ONE),
+                Arguments.of(BigInteger.valueOf(-42)),
+                Arguments.of(BigInteger.valueOf(Long.MAX_VALUE)),
+                Arguments.of(BigInteger.valueOf(Long.MIN_VALUE)),
+                Arguments.of(BigInteger.TEN.pow(18)),
+                Arguments.of(BigInteger.TEN.pow(18).subtract(BigInteger.ONE)),
+                Arguments.of(BigInteger.TEN.pow(36)),
+                Arguments.of(BigInteger.TEN.pow(1_000).add(BigInteger.valueOf(7))),
+                Arguments.of(BigInteger.TEN.pow(100_000).negate()),
+                Arguments.of(BigInteger.TEN.pow(147_456).add(BigInteger.ONE)),
+                Arguments.of(BigInteger.TEN.pow(400_000).subtract(BigInteger.ONE)),
+                Arguments.of(Factorials.factorial(1_000)),
+                Arguments.of(Factorials.factorial(100_000))
+        );
+    }
+
+    @Test
+    public void write_Exception() {
+        StringBuilder builder = new StringBuilder();
+        Assertions.assertThrows(NullPointerException.class, () -> DecimalWriter.write(null, builder));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> DecimalWriter.write(BigInteger.ONE, (Appendable) null));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> DecimalWriter.write(BigInteger.ONE, (WritableByteChannel) null));
+        Assertions.assertThrows(NullPointerException.class,
+                () -> DecimalWriter.write(BigInteger.ONE, builder, null));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Testing class for {@link FactorialAlgorithm}.
+ */
+public class FactorialAlgorithmTest {
+
+    @ParameterizedTest
+    @MethodSource("_factorial_Success_DataSet")
+    public void factorial_Success(FactorialAlgorithm algorithm, int n) {
+        Assertions.assertEquals(FactorialsTest.naiveFactorial(n), Factorials.factorial(n, algorithm));
+    }
+
+    public static Stream<Arguments> _factorial_Success_DataSet() {
+        FactorialAlgorithm[] algorithms = {
+                FactorialAlgorithm.multiplyRange(),
+                FactorialAlgorithm.productTree(),
+                FactorialAlgorithm.primeSwing()
+        };
+
+        return Stream.of(algorithms)
+                .flatMap(algorithm -> _factorialInPool_Success_DataSet().mapToObj(n -> Arguments.of(algorithm, n)));
+    }
+
+    @ParameterizedTest
+    @MethodSource("_factorialInPool_Success_DataSet")
+    public void factorialInPool_Success(int n) {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Assertions.assertEquals(FactorialsTest.naiveFactorial(n),
+                    Factorials.factorial(n, FactorialAlgorithm.productTree(pool)));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public static IntStream _factorialInPool_Success_DataSet() {
+        return IntStream.of(0, 1, 2, 5, 20, 21, 22, 41, 64, 100, 127, 128, 1_000, 5_001, 12_345);
+    }
+
+    @ParameterizedTest
+    @MethodSource("_factorial_Exception_DataSet")
+    public <X extends Exception> void factorial_Exception(FactorialAlgorithm algorithm, int n, Class<X> expectedException) {
+        Assertions.assertThrows(expectedException, () -> Factorials.factorial(n, algorithm));
+    }
+
+    public static Stream<Arguments> _factorial_Exception_DataSet() {
+        return Stream.of(
+                Arguments.of(FactorialAlgorithm.primeSwing(), -1, IllegalArgumentException.class),
+                Arguments.of(FactorialAlgorithm.multiplyRange(), -10, IllegalArgumentException.class),
+                Arguments.of(null, 10, NullPointerException.class)
+        );
+    }
+}
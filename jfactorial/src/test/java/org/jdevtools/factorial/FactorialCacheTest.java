@@ -0,0 +1,127 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+/**
+ * Testing class for {@link FactorialCache}.
+ */
+public class FactorialCacheTest {
+
+    @ParameterizedTest
+    @MethodSource("_factorial_Success_DataSet")
+    public void factorial_Success(int stride, int[] digits) {
+        FactorialCache cache = new FactorialCache(stride, Long.MAX_VALUE);
+        for (int n: digits) {
+            Assertions.assertEquals(Factorials.factorial(n), cache.factorial(n));
+        }
+    }
+
+    public static Stream<Arguments> _factorial_Success_DataSet() {
+        return Stream.of(
+                Arguments.of(1, new int[]{0, 5, 20, 21, 22, 30, 25, 30}),
+                Arguments.of(100, new int[]{150, 120, 199, 200, 201, 99, 1_000, 1_001, 999}),
+                Arguments.of(64, new int[]{2_000, 2_000, 64, 128, 3_000, 1_999})
+        );
+    }
+
+    @Test
+    public void factorial_StoresOnlyCheckpoints() {
+        FactorialCache cache = new FactorialCache(100, Long.MAX_VALUE);
+        cache.factorial(250);
+        Assertions.assertEquals(1, cache.size());
+
+        cache.factorial(300);
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(Factorials.factorial(200).bitLength() + Factorials.factorial(300).bitLength(),
+                cache.getUsedBits());
+    }
+
+    @Test
+    public void factorial_EvictsLeastRecentlyUsed() {
+        long budget = Factorials.factorial(300).bitLength() + Factorials.factorial(200).bitLength();
+        FactorialCache cache = new FactorialCache(100, budget);
+
+        cache.factorial(200);
+        cache.factorial(100);
+        cache.factorial(200);
+        cache.factorial(300);
+
+        Assertions.assertTrue(cache.getUsedBits() <= budget);
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(Factorials.factorial(350), cache.factorial(350));
+
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(0L, cache.getUsedBits());
+    }
+
+    @Test
+    public void factorial_Concurrent() throws Exception {
+        FactorialCache cache = new FactorialCache(1_000, Long.MAX_VALUE);
+        BigInteger expected = Factorials.factorial(20_000);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<BigInteger>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executor.submit(() -> cache.factorial(20_000)));
+            }
+
+            for (Future<BigInteger> future: futures) {
+                Assertions.assertEquals(expected, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @ParameterizedTest
+    @MethodSource("_constructor_Exception_DataSet")
+    public <X extends Exception> void constructor_Exception(int stride, long maxBits, Class<X> expectedException) {
+        Assertions.assertThrows(expectedException, () -> new FactorialCache(stride, maxBits));
+    }
+
+    public static Stream<Arguments> _constructor_Exception_DataSet() {
+        return Stream.of(
+                Arguments.of(0, 10L, IllegalArgumentException.class),
+                Arguments.of(-5, 10L, IllegalArgumentException.class),
+                Arguments.of(10, -1L, IllegalArgumentException.class)
+        );
+    }
+
+    @Test
+    public void factorial_Exception() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new FactorialCache(10, 100L).factorial(-1));
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.api.parallel.Isolated;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Testing class for {@link FactorialGovernor}.
+ */
+@Isolated
+public class FactorialGovernorTest {
+
+    @ParameterizedTest
+    @MethodSource("_admitted_Success_DataSet")
+    public void admitted_Success(int n, int k) throws InterruptedException {
+        FactorialGovernor governor = new FactorialGovernor(1L << 30);
+        BigInteger factorial = Factorials.factorial(n);
+        BigInteger combinations = Factorials.combinations(n, k);
+
+        Assertions.assertEquals(factorial, governor.factorial(n));
+        Assertions.assertEquals(Optional.of(factorial), governor.tryFactorial(n));
+        Assertions.assertEquals(Optional.of(factorial), governor.tryFactorial(n, 1L, TimeUnit.SECONDS));
+        Assertions.assertEquals(new BigDecimal(factorial), governor.factorialOrApproximation(n));
+
+        Assertions.assertEquals(combinations, governor.combinations(n, k));
+        Assertions.assertEquals(Optional.of(combinations), governor.tryCombinations(n, k));
+        Assertions.assertEquals(Optional.of(combinations), governor.tryCombinations(n, k, 1L, TimeUnit.SECONDS));
+        Assertions.assertEquals(new BigDecimal(combinations), governor.combinationsOrApproximation(n, k));
+
+        Assertions.assertEquals(governor.getMaxBytes(), governor.getAvailableBytes());
+    }
+
+    public static Stream<Arguments> _admitted_Success_DataSet() {
+        return Stream.of(
+                Arguments.of(0, 0),
+                Arguments.of(20, 7),
+                Arguments.of(100, 30),
+                Arguments.of(5_000, 10),
+                Arguments.of(5_000, 2_500)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("_rejected_Success_DataSet")
+    public void rejected_Success(int n, int k) throws InterruptedException {
+        FactorialGovernor governor = new FactorialGovernor(8L << 10);
+
+        Assertions.assertEquals(Optional.empty(), governor.tryFactorial(n));
+        Assertions.assertEquals(Optional.empty(), governor.tryFactorial(n, 10L, TimeUnit.MILLISECONDS));
+        Assertions.assertEquals(Optional.empty(), governor.tryCombinations(n, k));
+        Assertions.assertEquals(Optional.empty(), governor.tryCombinations(n, k, 10L, TimeUnit.MILLISECONDS));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> governor.factorial(n));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> governor.combinations(n, k));
+
+        assertApproximation(new BigDecimal(Factorials.factorial(n)), governor.factorialOrApproximation(n));
+        assertApproximation(new BigDecimal(Factorials.combinations(n, k)), governor.combinationsOrApproximation(n, k));
+    }
+
+    private static void assertApproximation(BigDecimal expected, BigDecimal actual) {
+        BigDecimal rounded = expected.round(new MathContext(12));
+        Assertions.assertEquals(0, rounded.compareTo(actual),
+                String.format("expected = %s, actual = %s", rounded, actual));
+    }
+
+    @Test
+    public void rejected_LargeApproximation() {
+        FactorialGovernor governor = new FactorialGovernor(8L << 10);
+
+        // 1000000! = 8.263931688331...E+5565708
+        Assertions.assertEquals(0, new BigDecimal("8.26393168833E+5565708")
+                .compareTo(governor.factorialOrApproximation(1_000_000)));
+        // C(2000000000, 1000000000) = 3.796535402668...E+602059986
+        Assertions.assertEquals(0, new BigDecimal("3.79653540267E+602059986")
+                .compareTo(governor.combinationsOrApproximation(2_000_000_000, 1_000_000_000)));
+        Assertions.assertThrows(ArithmeticException.class, () -> governor.factorialOrApproximation(Integer.MAX_VALUE));
+    }
+
+    public static Stream<Arguments> _rejected_Success_DataSet() {
+        return Stream.of(
+                Arguments.of(100_000, 50_000),
+                Arguments.of(200_000, 3_000),
+                Arguments.of(100_000, 90_000)
+        );
+    }
+
+    @Test
+    public void enforced_Success() throws InterruptedException {
+        FactorialGovernor global = FactorialGovernor.global();
+        Assumptions.assumeTrue(FactorialGovernor.estimateFactorialBytes(Integer.MAX_VALUE) > global.getMaxBytes());
+
+        FactorialGovernor.setEnforced(true);
+        try {
+            Assertions.assertTrue(FactorialGovernor.isEnforced());
+            BigInteger factorial = FactorialsTest.naiveFactorial(1_000);
+            Assertions.assertEquals(factorial, Factorials.factorial(1_000));
+            Assertions.assertEquals(factorial, Factorials.factorial(1_000, FactorialAlgorithm.primeSwing()));
+            Assertions.assertEquals(factorial.divide(FactorialsTest.naiveFactorial(500).pow(2)),
+                    Factorials.combinations(1_000, 500));
+            Assertions.assertEquals(global.getMaxBytes(), global.getAvailableBytes());
+
+            // direct calls can't bypass the budget of the global governor
+            Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.factorial(Integer.MAX_VALUE));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                    () -> Factorials.combinations(Integer.MAX_VALUE, Integer.MAX_VALUE / 2));
+            double logMaxFactorial = Factorials.logFactorial(Integer.MAX_VALUE);
+            assertRejected(logMaxFactorial,
+                    () -> Factorials.factorials(new int[]{Integer.MAX_VALUE - 1, Integer.MAX_VALUE}));
+            assertRejected(logMaxFactorial, () -> Factorials.fallingFactorial(Integer.MAX_VALUE, Integer.MAX_VALUE - 1));
+            assertRejected(logMaxFactorial, () -> Factorials.risingFactorial(2, Integer.MAX_VALUE - 2));
+            assertRejected(logMaxFactorial / 2, () -> Factorials.doubleFactorial(Integer.MAX_VALUE));
+            assertRejected(logMaxFactorial / 2, () -> Factorials.doubleFactorial(Integer.MAX_VALUE - 1));
+            int[] groups = new int[1 << 10];
+            Arrays.fill(groups, Integer.MAX_VALUE >>> 10);
+            assertRejected(Factorials.logFactorial(Integer.MAX_VALUE - 1023)
+                    - groups.length * Factorials.logFactorial(groups[0]), () -> Factorials.multinomial(groups));
+            ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+                    () -> Factorials.factorialAsync(Integer.MAX_VALUE, ForkJoinPool.commonPool()).get());
+            Assertions.assertTrue(exception.getCause() instanceof IllegalArgumentException);
+            Assertions.assertEquals(global.getMaxBytes(), global.getAvailableBytes());
+
+            // calculation, that is admitted by another governor, isn't admitted by the global governor again
+            FactorialGovernor governor = new FactorialGovernor(64L << 10);
+            Assertions.assertEquals(FactorialsTest.naiveFactorial(5_000), governor.factorial(5_000));
+            Assertions.assertEquals(governor.getMaxBytes(), governor.getAvailableBytes());
+        } finally {
+            FactorialGovernor.setEnforced(false);
+        }
+    }
+
+    /**
+     * Asserts, that calculation of value with the logarithm is rejected by the global governor, if its estimated memory
+     * exceeds the budget (budget of the global governor depends on max memory of JVM)
+     */
+    private static void assertRejected(double logValue, Executable calculation) {
+        if (FactorialGovernor.estimateBytes(logValue) > FactorialGovernor.global().getMaxBytes()) {
+            Assertions.assertThrows(IllegalArgumentException.class, calculation);
+        }
+    }
+
+    @Test
+    public void estimate_Success() {
+        for (int n: new int[]{0, 21, 1_000, 100_000}) {
+            long bytes = Factorials.factorial(n).bitLength() / Byte.SIZE;
+            Assertions.assertTrue(FactorialGovernor.estimateFactorialBytes(n) > 2 * bytes);
+            Assertions.assertTrue(FactorialGovernor.estimateFactorialBytes(n) < 8 * bytes + (4L << 10));
+        }
+
+        Assertions.assertTrue(FactorialGovernor.estimateCombinationsBytes(100_000, 10)
+                < FactorialGovernor.estimateCombinationsBytes(100_000, 50_000));
+        Assertions.assertTrue(FactorialGovernor.estimateCombinationsBytes(100_000, 50_000)
+                < FactorialGovernor.estimateFactorialBytes(100_000));
+    }
+
+    @Test
+    public void factorial_Exception() {
+        FactorialGovernor governor = new FactorialGovernor(1L << 20);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new FactorialGovernor(0L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> governor.factorial(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> governor.combinations(3, 4));
+        Assertions.assertThrows(NullPointerException.class, () -> governor.tryFactorial(10, 1L, null));
+
+        Thread.currentThread().interrupt();
+        try {
+            Assertions.assertThrows(InterruptedException.class, () -> governor.factorial(100));
+        } finally {
+            Thread.interrupted();
+        }
+        Assertions.assertEquals(governor.getMaxBytes(), governor.getAvailableBytes());
+        Assertions.assertSame(FactorialGovernor.global(), FactorialGovernor.global());
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.LongStream;
+
+/**
+ * Testing class for {@link FactorialMetrics}.
+ */
+@Isolated
+public class FactorialMetricsTest {
+
+    @AfterEach
+    public void disable() {
+        FactorialMetrics.setEnabled(false);
+        FactorialMetrics.reset();
+    }
+
+    @Test
+    public void record_Disabled_Success() {
+        FactorialMetrics.setEnabled(false);
+        FactorialMetrics.reset();
+
+        Factorials.factorial(1_000);
+        Factorials.combinations(1_000, 10);
+
+        for (FactorialMetrics.Operation operation: FactorialMetrics.Operation.values()) {
+            Assertions.assertEquals(0L, FactorialMetrics.count(operation));
+            Assertions.assertEquals(0L, FactorialMetrics.totalNanos(operation));
+        }
+    }
+
+    @Test
+    public void record_Enabled_Success() {
+        FactorialMetrics.setEnabled(true);
+        FactorialMetrics.reset();
+        Assertions.assertTrue(FactorialMetrics.isEnabled());
+
+        BigInteger factorial = Factorials.factorial(1_000);
+        Factorials.factorial(2_000);
+        Factorials.factorial(10);
+        Factorials.combinations(1_000, 10);
+        Factorials.combinations(1_000, 500);
+        FactorialNumberSystems.decimal2IntFactorials(factorial);
+
+        Assertions.assertEquals(2L, FactorialMetrics.count(FactorialMetrics.Operation.FACTORIAL));
+        Assertions.assertEquals(2L, FactorialMetrics.count(FactorialMetrics.Operation.COMBINATIONS));
+        Assertions.assertEquals(1L, FactorialMetrics.count(FactorialMetrics.Operation.MULTIPLY_RANGE));
+        Assertions.assertEquals(1L,
+                FactorialMetrics.count(FactorialMetrics.Operation.DECIMAL_TO_FACTORIAL_NUMBER_SYSTEM));
+
+        long[] durations = FactorialMetrics.durationHistogram(FactorialMetrics.Operation.FACTORIAL);
+        long[] bitLengths = FactorialMetrics.bitLengthHistogram(FactorialMetrics.Operation.FACTORIAL);
+        Assertions.assertEquals(FactorialMetrics.HISTOGRAM_BUCKETS_COUNT, durations.length);
+        Assertions.assertEquals(2L, LongStream.of(durations).sum());
+        Assertions.assertEquals(1L, bitLengths[Long.SIZE - Long.numberOfLeadingZeros(factorial.bitLength())]);
+        Assertions.assertTrue(FactorialMetrics.totalNanos(FactorialMetrics.Operation.FACTORIAL) > 0L);
+
+        FactorialMetrics.reset();
+        Assertions.assertEquals(0L, FactorialMetrics.count(FactorialMetrics.Operation.FACTORIAL));
+        Assertions.assertEquals(0L, LongStream.of(
+                FactorialMetrics.durationHistogram(FactorialMetrics.Operation.FACTORIAL)).sum());
+    }
+
+    @Test
+    public void record_Algorithm_Success() {
+        FactorialMetrics.setEnabled(true);
+        FactorialMetrics.reset();
+
+        Factorials.factorial(1_000, FactorialAlgorithm.primeSwing());
+        Factorials.factorial(1_000, FactorialAlgorithm.multiplyRange());
+        Factorials.factorial(1_000, FactorialAlgorithm.productTree());
+        Factorials.factorial(10, FactorialAlgorithm.primeSwing());
+
+        Assertions.assertEquals(4L, FactorialMetrics.count(FactorialMetrics.Operation.FACTORIAL));
+        Assertions.assertEquals(1L, FactorialMetrics.count(FactorialMetrics.Operation.MULTIPLY_RANGE));
+    }
+
+    @Test
+    public void record_FlightRecorderEvents_Success(@TempDir Path directory) throws IOException {
+        Assumptions.assumeTrue(FactorialMetrics.isFlightRecorderAvailable());
+        FactorialMetrics.setEnabled(true);
+
+        Path path = directory.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("org.jdevtools.factorial.Calculation");
+            recording.start();
+            Factorials.factorial(3_000);
+            Factorials.factorial(2_500, FactorialAlgorithm.primeSwing());
+            Factorials.combinations(2_000, 1_000);
+            recording.stop();
+            recording.dump(path);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(path);
+        Assertions.assertTrue(events.stream().anyMatch(event ->
+                "FACTORIAL".equals(event.getString("operation"))
+                        && event.getLong("n") == 3_000L
+                        && event.getLong("bitLength") == Factorials.factorial(3_000).bitLength()
+                        && !event.getDuration().isZero()
+                        && "productTree".equals(event.getString("algorithm"))));
+        Assertions.assertTrue(events.stream().anyMatch(event ->
+                "FACTORIAL".equals(event.getString("operation"))
+                        && event.getLong("n") == 2_500L
+                        && "primeSwing".equals(event.getString("algorithm"))));
+        Assertions.assertTrue(events.stream().anyMatch(event ->
+                "COMBINATIONS".equals(event.getString("operation"))
+                        && event.getLong("k") == 1_000L
+                        && "primeCombinations".equals(event.getString("algorithm"))));
+    }
+
+    @Test
+    public void count_Exception() {
+        Assertions.assertThrows(NullPointerException.class, () -> FactorialMetrics.count(null));
+        Assertions.assertThrows(NullPointerException.class, () -> FactorialMetrics.durationHistogram(null));
+    }
+}
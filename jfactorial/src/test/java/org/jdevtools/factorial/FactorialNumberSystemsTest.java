@@ -0,0 +1,228 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jdevtools.factorial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.jdevtools.factorial.FactorialNumberSystems.decimal2IntFactorials;
+import static org.jdevtools.factorial.FactorialNumberSystems.intFactorials2Decimal;
+import static org.jdevtools.factorial.FactorialNumberSystems.intFactorials2Long;
+
+/**
+ * Testing class for {@link FactorialNumberSystems}.
+ */
+public class FactorialNumberSystemsTest {
+
+    @ParameterizedTest
+    @MethodSource({
+            "_decimal2IntFactorials_Success_DataSet"
+    })
+    public void decimal2IntFactorials_Success(BigInteger value, int[] expectedResult) {
+        Assertions.assertArrayEquals(expectedResult, decimal2IntFactorials(value));
+    }
+
+    public static Stream<Arguments> _decimal2IntFactorials_Success_DataSet() {
+        return Stream.of(
+                Arguments.of(BigInteger.ZERO, new int[]{}),
+                Arguments.of(BigInteger.ONE, new int[]{1}),
+                Arguments.of(BigInteger.ONE.negate(), new int[]{-1}),
+                Arguments.of(BigInteger.TWO, new int[]{0, 1}),
+                Arguments.of(BigInteger.TWO.negate(), new int[]{0, -1}),
+                Arguments.of(BigInteger.TEN, new int[]{0, 2, 1}),
+                Arguments.of(BigInteger.TEN.negate(), new int[]{0, -2, -1}),
+                Arguments.of(BigInteger.valueOf(12), new int[]{0, 0, 2}),
+                Arguments.of(BigInteger.valueOf(-12), new int[]{0, 0, -2}),
+                Arguments.of(BigInteger.valueOf(20), new int[]{0, 1, 3}),
+                Arguments.of(BigInteger.valueOf(-20), new int[]{0, -1, -3}),
+                Arguments.of(BigInteger.valueOf(24), new int[]{0, 0, 0, 1}),
+                Arguments.of(BigInteger.valueOf(-24), new int[]{0, 0, 0, -1}),
+                Arguments.of(BigInteger.valueOf(100), new int[]{0, 2, 0, 4}),
+                Arguments.of(BigInteger.valueOf(-100), new int[]{0, -2, 0, -4}),
+                Arguments.of(BigInteger.valueOf(120), new int[]{0, 0, 0, 0, 1}),
+                Arguments.of(BigInteger.valueOf(-120), new int[]{0, 0, 0, 0, -1}),
+                Arguments.of(BigInteger.valueOf(1_000), new int[]{0, 2, 2, 1, 2, 1}),
+                Arguments.of(BigInteger.valueOf(-1_000), new int[]{0, -2, -2, -1, -2, -1}),
+                Arguments.of(BigInteger.valueOf(10_000), new int[]{0, 2, 2, 1, 5, 6, 1}),
+                Arguments.of(BigInteger.valueOf(-10_000), new int[]{0, -2, -2, -1, -5, -6, -1}),
+                Arguments.of(BigInteger.valueOf(100_000), new int[]{0, 2, 2, 1, 5, 5, 3, 2}),
+                Arguments.of(BigInteger.valueOf(-100_000), new int[]{0, -2, -2, -1, -5, -5, -3, -2})
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource({
+            "_decimal2IntFactorials_Success_DataSet"
+    })
+    public void decimal2IntFactorialsLong_Success(BigInteger value, int[] expectedResult) {
+        Assertions.assertArrayEquals(expectedResult, decimal2IntFactorials(value.longValueExact()));
+
+        int[] buffer = new int[20];
+        Arrays.fill(buffer, 42);
+        int count = decimal2IntFactorials(value.longValueExact(), buffer);
+        Assertions.assertArrayEquals(expectedResult, Arrays.copyOf(buffer, count));
+
+        Arrays.fill(buffer, 42);
+        count = decimal2IntFactorials(value, buffer);
+        Assertions.assertArrayEquals(expectedResult, Arrays.copyOf(buffer, count));
+    }
+
+    @Test
+    public void decimal2IntFactorialsLong_Bounds() {
+        for (long value: new long[]{Long.MAX_VALUE, Long.MIN_VALUE, Long.MIN_VALUE + 1, 2_432_902_008_176_640_000L,
+                2_432_902_008_176_639_999L}) {
+            int[] expectedResult = naiveDecimal2IntFactorials(BigInteger.valueOf(value));
+            Assertions.assertArrayEquals(expectedResult, decimal2IntFactorials(value));
+
+            int[] buffer = new int[20];
+            Assertions.assertEquals(expectedResult.length, decimal2IntFactorials(value, buffer));
+        }
+    }
+
+    @Test
+    public void decimal2IntFactorialsBuffer_Exception() {
+        Assertions.assertThrows(NullPointerException.class, () -> decimal2IntFactorials(10L, null));
+        Assertions.assertThrows(NullPointerException.class, () -> decimal2IntFactorials(BigInteger.TEN, (int[]) null));
+        Assertions.assertThrows(NullPointerException.class, () -> decimal2IntFactorials(null, new int[3]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> decimal2IntFactorials(24L, new int[3]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> decimal2IntFactorials(Factorials.factorial(30), new int[20]));
+
+        BigInteger value = Factorials.factorial(30).subtract(BigInteger.ONE);
+        int[] buffer = new int[29];
+        Assertions.assertEquals(29, decimal2IntFactorials(value, buffer));
+        Assertions.assertArrayEquals(decimal2IntFactorials(value), buffer);
+    }
+
+    @ParameterizedTest
+    @MethodSource({
+            "_decimal2IntFactorialsLarge_Success_DataSet"
+    })
+    public void decimal2IntFactorialsLarge_Success(BigInteger value) {
+        int[] expectedResult = naiveDecimal2IntFactorials(value);
+        Assertions.assertArrayEquals(expectedResult, decimal2IntFactorials(value));
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Assertions.assertArrayEquals(expectedResult, decimal2IntFactorials(value, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public static Stream<Arguments> _decimal2IntFactorialsLarge_Success_DataSet() {
+        Random random = new Random(42);
+        return Stream.of(
+                Arguments.of(BigInteger.valueOf(Long.MAX_VALUE)),
+                Arguments.of(BigInteger.valueOf(Long.MIN_VALUE)),
+                Arguments.of(BigInteger.ONE.shiftLeft(64)),
+                Arguments.of(Factorials.factorial(100)),
+                Arguments.of(Factorials.factorial(100).subtract(BigInteger.ONE)),
+                Arguments.of(Factorials.factorial(2_000).negate()),
+                Arguments.of(new BigInteger(1_000, random)),
+                Arguments.of(new BigInteger(10_000, random).negate()),
+                Arguments.of(new BigInteger(100_000, random))
+        );
+    }
+
+    private static int[] naiveDecimal2IntFactorials(BigInteger value) {
+        IntStream.Builder builder = IntStream.builder();
+
+        BigInteger dividend = value;
+        BigInteger divider = BigInteger.TWO;
+        while (!dividend.equals(BigInteger.ZERO)) {
+            BigInteger[] dividerAndRemainder = dividend.divideAndRemainder(divider);
+            builder.add(dividerAndRemainder[1].intValue());
+
+            dividend = dividerAndRemainder[0];
+            divider = divider.add(BigInteger.ONE);
+        }
+
+        return builder.build().toArray();
+    }
+
+    @ParameterizedTest
+    @MethodSource({
+            "_decimal2IntFactorials_Success_DataSet"
+    })
+    public void intFactorials2Decimal_Success(BigInteger expectedResult, int[] digits) {
+        Assertions.assertEquals(expectedResult, intFactorials2Decimal(digits));
+        Assertions.assertEquals(expectedResult.longValueExact(), intFactorials2Long(digits));
+    }
+
+    @ParameterizedTest
+    @MethodSource({
+            "_decimal2IntFactorialsLarge_Success_DataSet"
+    })
+    public void intFactorials2DecimalLarge_Success(BigInteger value) {
+        Assertions.assertEquals(value, intFactorials2Decimal(decimal2IntFactorials(value)));
+    }
+
+    @ParameterizedTest
+    @MethodSource({
+            "_intFactorials2Decimal_Exception_DataSet"
+    })
+    public <X extends Exception> void intFactorials2Decimal_Exception(int[] digits, Class<X> expectedException) {
+        Assertions.assertThrows(expectedException, () -> intFactorials2Decimal(digits));
+        Assertions.assertThrows(expectedException, () -> intFactorials2Long(digits));
+    }
+
+    public static Stream<Arguments> _intFactorials2Decimal_Exception_DataSet() {
+        return Stream.of(
+                Arguments.of(null, NullPointerException.class),
+                Arguments.of(new int[]{2}, IllegalArgumentException.class),
+                Arguments.of(new int[]{0, 1, -4}, IllegalArgumentException.class)
+        );
+    }
+
+    @Test
+    public void intFactorials2Long_Overflow() {
+        int[] digits = decimal2IntFactorials(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE));
+        Assertions.assertThrows(ArithmeticException.class, () -> intFactorials2Long(digits));
+        Assertions.assertEquals(Long.MIN_VALUE, intFactorials2Long(decimal2IntFactorials(BigInteger.valueOf(Long.MIN_VALUE))));
+    }
+
+    @ParameterizedTest
+    @MethodSource({
+           "_decimal2IntFactorials_Exception_DataSet"
+    })
+    public <X extends Exception> void decimal2IntFactorials_Exception(BigInteger value, Class<X> expectedException) {
+        Assertions.assertThrows(expectedException, () -> decimal2IntFactorials(value));
+    }
+
+    public static Stream<Arguments> _decimal2IntFactorials_Exception_DataSet() {
+        return Stream.of(
+                Arguments.of(null, NullPointerException.class)
+        );
+    }
+
+    @Test
+    public void decimal2IntFactorialsInPool_Exception() {
+        Assertions.assertThrows(NullPointerException.class, () -> decimal2IntFactorials((BigInteger) null, ForkJoinPool.commonPool()));
+        Assertions.assertThrows(NullPointerException.class, () -> decimal2IntFactorials(BigInteger.TEN, (ForkJoinPool) null));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Testing class for {@link FactorialStore}.
+ */
+public class FactorialStoreTest {
+
+    private final static int[] STORED_DIGITS = {3_000, 0, 100, 20, 21, 3_000, 1_024, 25};
+
+    @ParameterizedTest
+    @MethodSource("_factorial_Success_DataSet")
+    public void factorial_Success(int n, @TempDir Path directory) throws IOException {
+        Path path = directory.resolve("factorials.bin");
+        FactorialStore.write(path, STORED_DIGITS);
+
+        try (FactorialStore store = FactorialStore.open(path)) {
+            Assertions.assertEquals(Factorials.factorial(n), store.factorial(n));
+            Assertions.assertEquals(Factorials.factorial(n, store::factorial), store.factorial(n));
+
+            boolean stored = IntStream.of(STORED_DIGITS).anyMatch(digit -> digit == n);
+            Assertions.assertEquals(stored ? Optional.of(Factorials.factorial(n)) : Optional.empty(), store.get(n));
+        }
+    }
+
+    public static Stream<Arguments> _factorial_Success_DataSet() {
+        return IntStream.of(0, 1, 20, 21, 22, 25, 26, 99, 100, 101, 1_024, 2_999, 3_000, 3_001, 5_000)
+                .mapToObj(Arguments::of);
+    }
+
+    @Test
+    public void open_Success(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("factorials.bin");
+        FactorialStore.write(path, STORED_DIGITS);
+
+        try (FactorialStore store = FactorialStore.open(path)) {
+            Assertions.assertArrayEquals(new int[]{0, 20, 21, 25, 100, 1_024, 3_000}, store.getDigits());
+            Assertions.assertEquals(7, store.size());
+            Assertions.assertEquals(path, store.getPath());
+        }
+
+        FactorialStore.write(path);
+        try (FactorialStore store = FactorialStore.open(path)) {
+            Assertions.assertEquals(0, store.size());
+            Assertions.assertEquals(Factorials.factorial(50), store.factorial(50));
+        }
+    }
+
+    @Test
+    public void open_CorruptedHeaderOrIndex_Exception(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("factorials.bin");
+        FactorialStore.write(path, STORED_DIGITS);
+        byte[] bytes = Files.readAllBytes(path);
+
+        byte[] invalidMagic = bytes.clone();
+        invalidMagic[0] ^= 1;
+        Files.write(path, invalidMagic);
+        Assertions.assertThrows(IOException.class, () -> FactorialStore.open(path));
+
+        byte[] invalidIndex = bytes.clone();
+        invalidIndex[16] ^= 1;
+        Files.write(path, invalidIndex);
+        Assertions.assertThrows(IOException.class, () -> FactorialStore.open(path));
+
+        Files.write(path, new byte[]{1, 2, 3});
+        Assertions.assertThrows(IOException.class, () -> FactorialStore.open(path));
+    }
+
+    @Test
+    public void get_CorruptedValue_Exception(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("factorials.bin");
+        FactorialStore.write(path, STORED_DIGITS);
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(path, bytes);
+
+        try (FactorialStore store = FactorialStore.open(path)) {
+            Assertions.assertEquals(Optional.of(Factorials.factorial(100)), store.get(100));
+            Assertions.assertThrows(UncheckedIOException.class, () -> store.get(3_000));
+            Assertions.assertThrows(UncheckedIOException.class, () -> store.factorial(3_001));
+        }
+    }
+
+    @Test
+    public void factorial_Exception(@TempDir Path directory) throws IOException {
+        Path path = directory.resolve("factorials.bin");
+        Assertions.assertThrows(NullPointerException.class, () -> FactorialStore.write(null, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> FactorialStore.write(path, -1));
+        Assertions.assertThrows(NullPointerException.class, () -> FactorialStore.open(null));
+
+        FactorialStore.write(path, STORED_DIGITS);
+        try (FactorialStore store = FactorialStore.open(path)) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> store.factorial(-1));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> store.get(-1));
+        }
+    }
+}
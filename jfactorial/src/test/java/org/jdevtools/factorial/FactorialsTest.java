@@ -0,0 +1,614 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.jdevtools.factorial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Testing static method of class {@link Factorials}
+ */
+public class FactorialsTest {
+
+    @ParameterizedTest
+    @MethodSource("_longValue_Success_DataSet")
+    public void getLongValue_Success(int value, Optional<Long> expectedFactorial) {
+        Assertions.assertEquals(expectedFactorial, Factorials.longFactorial(value));
+    }
+
+    @ParameterizedTest
+    @MethodSource("_longValue_Exception_DataSet")
+    public <X extends Exception> void getLongValue_Exception(int value, Class<X> expectedException) {
+        Assertions.assertThrows(expectedException, () -> Factorials.longFactorial(value));
+    }
+
+    @ParameterizedTest
+    @MethodSource("_factorial_Success_DataSet")
+    public void getFactorial_Success(int value, BigInteger expectedFactorial) {
+        Assertions.assertEquals(expectedFactorial, Factorials.factorial(value));
+    }
+
+    @ParameterizedTest
+    @MethodSource("_factorial_Exception_DataSet")
+    public <X extends Exception> void getFactorial_Exception(int value, Class<X> expectedException) {
+        Assertions.assertThrows(expectedException, () -> Factorials.factorial(value));
+    }
+
+    @ParameterizedTest
+    @MethodSource("_factorialInPool_Success_DataSet")
+    public void getFactorialInPool_Success(int value) {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Assertions.assertEquals(naiveFactorial(value), Factorials.factorial(value, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("_factorials_Success_DataSet")
+    public void getFactorials_Success(int[] ns) {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BigInteger[] expected = IntStream.of(ns)
+                    .mapToObj(FactorialsTest::naiveFactorial)
+                    .toArray(BigInteger[]::new);
+            Assertions.assertArrayEquals(expected, Factorials.factorials(ns));
+            Assertions.assertArrayEquals(expected, Factorials.factorials(ns, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    public static Stream<Arguments> _factorials_Success_DataSet() {
+        return Stream.of(
+                Arguments.of((Object) new int[]{}),
+                Arguments.of((Object) new int[]{0}),
+                Arguments.of((Object) new int[]{20, 3, 0, 20, 1}),
+                Arguments.of((Object) new int[]{21}),
+                Arguments.of((Object) new int[]{5_000, 21, 100, 7, 100, 10_000, 4_117, 22, 5_000}),
+                Arguments.of((Object) new Random(17).ints(200, 0, 3_000).toArray())
+        );
+    }
+
+    @Test
+    public void getFactorials_Exception() {
+        Assertions.assertThrows(NullPointerException.class, () -> Factorials.factorials(null));
+        Assertions.assertThrows(NullPointerException.class, () -> Factorials.factorials(new int[]{1}, null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.factorials(new int[]{1, -1}));
+    }
+
+    public static Stream<Arguments> _factorialInPool_Success_DataSet() {
+        return Stream.of(
+                Arguments.of(0),
+                Arguments.of(20),
+                Arguments.of(21),
+                Arguments.of(53),
+                Arguments.of(1_000),
+                Arguments.of(4_117),
+                Arguments.of(20_000)
+        );
+    }
+
+    @Test
+    public void getFactorialInPool_NullPool() {
+        Assertions.assertThrows(NullPointerException.class, () -> Factorials.factorial(30, (ForkJoinPool) null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("_factorialInPool_Success_DataSet")
+    public void getFactorialAsync_Success(int value) throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            List<Double> progress = new CopyOnWriteArrayList<>();
+            BigInteger result = Factorials.factorialAsync(value, executor, Duration.ofMinutes(1), progress::add).get();
+
+            Assertions.assertEquals(naiveFactorial(value), result);
+            Assertions.assertEquals(1.0, progress.get(progress.size() - 1));
+            for (int i = 1; i < progress.size(); i++) {
+                Assertions.assertTrue(progress.get(i - 1) < progress.get(i));
+            }
+            Assertions.assertEquals(naiveFactorial(value), Factorials.factorialAsync(value, executor).get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void getFactorialAsync_Cancel() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CountDownLatch started = new CountDownLatch(1);
+            AtomicInteger steps = new AtomicInteger();
+            CompletableFuture<BigInteger> future = Factorials.factorialAsync(Integer.MAX_VALUE / 2, executor, null,
+                    progress -> {
+                        steps.incrementAndGet();
+                        started.countDown();
+                    });
+
+            started.await();
+            Assertions.assertTrue(future.cancel(true));
+
+            // the calculations are stopped, so next task is executed by the single thread
+            Assertions.assertEquals(BigInteger.ONE, Factorials.factorialAsync(1, executor).get(1, TimeUnit.MINUTES));
+            Assertions.assertTrue(steps.get() < 2 * (Integer.MAX_VALUE / 2 / 4_096));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void getFactorialAsync_Timeout() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<BigInteger> future = Factorials.factorialAsync(Integer.MAX_VALUE / 2, executor,
+                    Duration.ofMillis(50), null);
+
+            ExecutionException exception = Assertions.assertThrows(ExecutionException.class, future::get);
+            Assertions.assertTrue(exception.getCause() instanceof TimeoutException);
+            Assertions.assertEquals(BigInteger.TWO, Factorials.factorialAsync(2, executor).get(1, TimeUnit.MINUTES));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void getFactorialAsync_Exception() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Factorials.factorialAsync(-1, ForkJoinPool.commonPool()));
+        Assertions.assertThrows(NullPointerException.class, () -> Factorials.factorialAsync(1, null));
+    }
+
+    @ParameterizedTest
+    @MethodSource("_factorialStream_Success_DataSet")
+    public void getFactorialStream_Success(int fromInclusive, int toExclusive) {
+        List<BigInteger> expectedFactorials = IntStream.range(fromInclusive, toExclusive)
+                .mapToObj(FactorialsTest::naiveFactorial)
+                .collect(Collectors.toList());
+
+        Assertions.assertEquals(expectedFactorials,
+                Factorials.factorialStream(fromInclusive, toExclusive).collect(Collectors.toList()));
+        Assertions.assertEquals(expectedFactorials,
+                Factorials.factorialStream(fromInclusive, toExclusive).parallel().collect(Collectors.toList()));
+    }
+
+    public static Stream<Arguments> _factorialStream_Success_DataSet() {
+        return Stream.of(
+                Arguments.of(0, 0),
+                Arguments.of(0, 1),
+                Arguments.of(0, 30),
+                Arguments.of(19, 23),
+                Arguments.of(500, 1_500)
+        );
+    }
+
+    @Test
+    public void getFactorialStream_Exception() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.factorialStream(-1, 3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.factorialStream(5, 4));
+    }
+
+    @ParameterizedTest
+    @MethodSource("_factorialSize_Success_DataSet")
+    public void getFactorialSize_Success(int n) {
+        BigInteger factorial = naiveFactorial(n);
+        Assertions.assertEquals(factorial.bitLength(), Factorials.factorialBitLength(n));
+        Assertions.assertEquals(factorial.toString().length(), Factorials.factorialDecimalDigits(n));
+
+        int bitLength = factorial.bitLength();
+        int shift = Math.max(0, bitLength - Long.SIZE);
+        double expectedLog = shift * Math.log(2) + Math.log(factorial.shiftRight(shift).doubleValue());
+        Assertions.assertEquals(expectedLog, Factorials.logFactorial(n), Math.max(1e-12, expectedLog * 1e-14));
+    }
+
+    public static Stream<Arguments> _factorialSize_Success_DataSet() {
+        return IntStream.of(0, 1, 2, 3, 9, 10, 20, 21, 22, 25, 100, 1_000, 1_001, 3_249, 10_000)
+                .mapToObj(Arguments::of);
+    }
+
+    @Test
+    public void getFactorialSize_LogarithmCloseToInteger() {
+        // log2(2418263!) = 47791767.99999985... and log10(4594140!) = 28611892.99999995..., so rounding errors of
+        // double logarithms can change the results
+        long bitLength = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(1),
+                () -> Factorials.factorialBitLength(2_418_263));
+        long decimalDigits = Assertions.assertTimeoutPreemptively(Duration.ofSeconds(1),
+                () -> Factorials.factorialDecimalDigits(4_594_140));
+
+        Assertions.assertEquals(47_791_768L, bitLength);
+        Assertions.assertEquals(28_611_893L, decimalDigits);
+    }
+
+    @ParameterizedTest
+    @MethodSource("_approximateCombinations_Success_DataSet")
+    public void approximateCombinations_Success(int n, int k) {
+        BigInteger combinations = Factorials.combinations(n, k);
+        Assertions.assertEquals(combinations.doubleValue(), Factorials.approximateCombinations(n, k),
+                combinations.doubleValue() * 1e-12);
+
+        int shift = Math.max(0, combinations.bitLength() - Long.SIZE);
+        double expectedLog = shift * Math.log(2) + Math.log(combinations.shiftRight(shift).doubleValue());
+        Assertions.assertEquals(expectedLog, Factorials.logCombinations(n, k), Math.max(1e-12, expectedLog * 1e-13));
+    }
+
+    public static Stream<Arguments> _approximateCombinations_Success_DataSet() {
+        return Stream.of(
+                Arguments.of(0, 0),
+                Arguments.of(50, 25),
+                Arguments.of(100, 50),
+                Arguments.of(1_000, 400),
+                Arguments.of(1_000_000, 21),
+                Arguments.of(2_000_000_000, 30),
+                Arguments.of(2_000_000_000, 1_999_999_990)
+        );
+    }
+
+    @Test
+    public void approximateCombinations_Overflow() {
+        Assertions.assertEquals(Double.POSITIVE_INFINITY, Factorials.approximateCombinations(10_000, 5_000));
+        Assertions.assertEquals(Factorials.combinations(10_000, 5_000).bitLength(),
+                Factorials.logCombinations(10_000, 5_000) / Math.log(2), 1.0);
+    }
+
+    @Test
+    public void getFactorialSize_Exception() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.logFactorial(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.factorialBitLength(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.factorialDecimalDigits(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.logCombinations(3, 4));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.approximateCombinations(3, -1));
+    }
+
+    @Test
+    public void valuations_Success() {
+        BigInteger factorial = BigInteger.ONE;
+        for (int n = 0; n <= 1_500; n++) {
+            if (n > 0) {
+                factorial = factorial.multiply(BigInteger.valueOf(n));
+            }
+
+            String digits = factorial.toString();
+            int trailingZeros = digits.length() - digits.replaceAll("0+$", "").length();
+            Assertions.assertEquals(trailingZeros, Factorials.trailingZeros(n));
+            Assertions.assertEquals(digits.charAt(digits.length() - trailingZeros - 1) - '0',
+                    Factorials.lastNonZeroDigit(n));
+
+            if (n % 50 == 0) {
+                for (int p: new int[]{2, 3, 4, 6, 7, 12, 97, 1_000}) {
+                    Assertions.assertEquals(naiveValuation(factorial, p), Factorials.valuation(n, p));
+                }
+            }
+        }
+    }
+
+    private static long naiveValuation(BigInteger value, int p) {
+        BigInteger divider = BigInteger.valueOf(p);
+        long valuation = 0L;
+        BigInteger[] quotientAndRemainder = value.divideAndRemainder(divider);
+        while (quotientAndRemainder[1].signum() == 0) {
+            valuation++;
+            quotientAndRemainder = quotientAndRemainder[0].divideAndRemainder(divider);
+        }
+
+        return valuation;
+    }
+
+    @Test
+    public void valuations_Exception() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.trailingZeros(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.lastNonZeroDigit(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.valuation(-1, 2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.valuation(10, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.oddPartFactorial(-1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("_multinomial_Success_DataSet")
+    public void multinomial_Success(int[] ks) {
+        BigInteger expected = naiveFactorial(IntStream.of(ks).sum());
+        for (int k: ks) {
+            expected = expected.divide(naiveFactorial(k));
+        }
+
+        Assertions.assertEquals(expected, Factorials.multinomial(ks));
+    }
+
+    public static Stream<Arguments> _multinomial_Success_DataSet() {
+        return Stream.of(
+                Arguments.of((Object) new int[]{}),
+                Arguments.of((Object) new int[]{0, 0}),
+                Arguments.of((Object) new int[]{7}),
+                Arguments.of((Object) new int[]{3, 5, 2}),
+                Arguments.of((Object) new int[]{10, 0, 10}),
+                Arguments.of((Object) new int[]{30, 1}),
+                Arguments.of((Object) new int[]{100, 200, 300}),
+                Arguments.of((Object) IntStream.generate(() -> 1).limit(300).toArray()),
+                Arguments.of((Object) new int[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15}),
+                Arguments.of((Object) new int[]{2_500, 1_500, 1})
+        );
+    }
+
+    @Test
+    public void multinomial_Exception() {
+        Assertions.assertThrows(NullPointerException.class, () -> Factorials.multinomial((int[]) null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.multinomial(3, -1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Factorials.multinomial(Integer.MAX_VALUE, 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("_fallingFactorial_Success_DataSet")
+    public void fallingAndRisingFactorial_Success(int n, int k) {
+        BigInteger falling = BigInteger.ONE;
+        BigInteger rising = BigInteger.ONE;
+        for (int i = 0; i < k; i++) {
+            falling = falling.multiply(BigInteger.valueOf(n - i));
+            rising = rising.multiply(BigInteger.valueOf(n + i));
+        }
+
+        Assertions.assertEquals(falling, Factorials.fallingFactorial(n, k));
+        Assertions.assertEquals(rising, Factorials.risingFactorial(n, k));
+    }
+
+    public static Stream<Arguments> _fallingFactorial_Success_DataSet() {
+        return Stream.of(
+                Arguments.of(0, 0),
+                Arguments.of(1, 1),
+                Arguments.of(5, 0),
+                Arguments.of(5, 3),
+                Arguments.of(20, 20),
+                Arguments.of(100, 37),
+                Arguments.of(1_000, 999),
+                Arguments.of(10_000, 9_000),
+                Arguments.of(2_000_000_000, 100)
+        );
+    }
+
+    @Test
+    public void fallingFactorial_MaxValue() {
+        long n = Integer.MAX_VALUE;
+        Assertions.assertEquals(BigInteger.ONE, Factorials.fallingFactorial(Integer.MAX_VALUE, 0));
+        Assertions.assertEquals(BigInteger.valueOf(n), Factorials.fallingFactorial(Integer.MAX_VALUE, 1));
+        Assertions.assertEquals(BigInteger.valueOf(n).multiply(BigInteger.valueOf(n - 1))
+                        .multiply(BigInteger.valueOf(n - 2)), Factorials.fallingFactorial(Integer.MAX_VALUE, 3));
+    }
+
+    @Test
+    public void fallingAndRisingFactorial_Exception() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.fallingFactorial(5, 6));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.fallingFactorial(5, -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.risingFactorial(-1, 2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.risingFactorial(5, -1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> Factorials.risingFactorial(Integer.MAX_VALUE, 2));
+        Assertions.assertEquals(BigInteger.ZERO, Factorials.risingFactorial(0, 3));
+        Assertions.assertEquals(BigInteger.valueOf(Integer.MAX_VALUE - 1),
+                Factorials.risingFactorial(Integer.MAX_VALUE - 1, 1));
+    }
+
+    @ParameterizedTest
+    @MethodSource("_doubleFactorial_Success_DataSet")
+    public void doubleFactorial_Success(int n) {
+        BigInteger expected = BigInteger.ONE;
+        for (int i = n; i > 1; i -= 2) {
+            expected = expected.multiply(BigInteger.valueOf(i));
+        }
+
+        Assertions.assertEquals(expected, Factorials.doubleFactorial(n));
+    }
+
+    public static Stream<Arguments> _doubleFactorial_Success_DataSet() {
+        return IntStream.of(0, 1, 2, 3, 4, 33, 34, 35, 64, 65, 101, 1_000, 1_001, 9_999, 20_001)
+                .mapToObj(Arguments::of);
+    }
+
+    @Test
+    public void doubleFactorial_Exception() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.doubleFactorial(-1));
+    }
+
+    static BigInteger naiveFactorial(int n) {
+        BigInteger result = BigInteger.ONE;
+        for (int i = 2; i <= n; i++) {
+            result = result.multiply(BigInteger.valueOf(i));
+        }
+
+        return result;
+    }
+
+    public static Stream<Arguments> _factorial_Exception_DataSet() {
+        return Stream.of(
+                Arguments.of(-1, IllegalArgumentException.class),
+                Arguments.of(-100, IllegalArgumentException.class)
+        );
+    }
+
+    public static Stream<Arguments> _factorial_Success_DataSet() {
+        return Stream.of(
+                Arguments.of(0, BigInteger.ONE),
+                Arguments.of(1, BigInteger.ONE),
+                Arguments.of(2, BigInteger.TWO),
+                Arguments.of(6, BigInteger.valueOf(720L)),
+                Arguments.of(12, BigInteger.valueOf(479_001_600L)),
+                Arguments.of(15, BigInteger.valueOf(1_307_674_368_000L)),
+                Arguments.of(20, BigInteger.valueOf(2_432_902_008_176_640_000L)),
+                Arguments.of(21, new BigInteger("51090942171709440000")),
+                Arguments.of(25, new BigInteger("15511210043330985984000000")),
+                Arguments.of(30, new BigInteger("265252859812191058636308480000000")),
+                Arguments.of(48, new BigInteger("12413915592536072670862289047373375038521486354677760000000000")),
+                Arguments.of(100, new BigInteger("93326215443944152681699238856266700490715968264381621468592963895217599993229915608941463976156518286253697920827223758251185210916864000000000000000000000000"))
+        );
+    }
+
+    public static Stream<Arguments> _longValue_Exception_DataSet() {
+        return Stream.of(
+                Arguments.of(-4, IllegalArgumentException.class),
+                Arguments.of(-1, IllegalArgumentException.class)
+        );
+    }
+
+    public static Stream<Arguments> _longValue_Success_DataSet() {
+        return Stream.of(
+                Arguments.of(0, Optional.of(1L)),
+                Arguments.of(1, Optional.of(1L)),
+                Arguments.of(2, Optional.of(2L)),
+                Arguments.of(6, Optional.of(720L)),
+                Arguments.of(12, Optional.of(479_001_600L)),
+                Arguments.of(15, Optional.of(1_307_674_368_000L)),
+                Arguments.of(20, Optional.of(2_432_902_008_176_640_000L)),
+                Arguments.of(21, Optional.empty()),
+                Arguments.of(25, Optional.empty())
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("_testCombinations_Success_DataSet")
+    public void testCombinations_Success(int n, int k, BigInteger expectedResult) {
+        Assertions.assertEquals(expectedResult, Factorials.combinations(n, k));
+    }
+
+    public static Stream<Arguments> _testCombinations_Success_DataSet() {
+        return Stream.of(
+                Arguments.of(0, 0, BigInteger.ONE),
+                Arguments.of(1, 0, BigInteger.ONE),
+                Arguments.of(1, 1, BigInteger.ONE),
+                Arguments.of(15, 4, BigInteger.valueOf(1_365L)),
+                Arguments.of(15, 7, BigInteger.valueOf(6_435L)),
+                Arguments.of(50, 15, BigInteger.valueOf(2_250_829_575_120L)),
+                Arguments.of(50, 25, BigInteger.valueOf(126_410_606_437_752L)),
+                Arguments.of(100, 40, new BigInteger("13746234145802811501267369720")),
+                Arguments.of(100, 50, new BigInteger("100891344545564193334812497256"))
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("_testLargeCombinations_Success_DataSet")
+    public void testLargeCombinations_Success(int n, int k) {
+        BigInteger expectedResult = naiveFactorial(n).divide(naiveFactorial(k).multiply(naiveFactorial(n - k)));
+        Assertions.assertEquals(expectedResult, Factorials.combinations(n, k));
+    }
+
+    public static Stream<Arguments> _testLargeCombinations_Success_DataSet() {
+        return Stream.of(
+                Arguments.of(256, 128),
+                Arguments.of(257, 129),
+                Arguments.of(1_000, 127),
+                Arguments.of(1_000, 128),
+                Arguments.of(1_000, 500),
+                Arguments.of(4_099, 2_000),
+                Arguments.of(10_000, 100),
+                Arguments.of(10_000, 9_800)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("_testCombinations_Exception_DataSet")
+    public <X extends Exception> void testCombinations_Exception(int n, int k, Class<X> expectedException) {
+        Assertions.assertThrows(expectedException, () -> Factorials.combinations(n, k));
+    }
+
+    public static Stream<Arguments> _testCombinations_Exception_DataSet() {
+        return Stream.of(
+                Arguments.of(0, 4, IllegalArgumentException.class),
+                Arguments.of(-3, -4, IllegalArgumentException.class),
+                Arguments.of(4, -3, IllegalArgumentException.class),
+                Arguments.of(-6, 0, IllegalArgumentException.class)
+        );
+    }
+
+    @Test
+    public void longCombinations_Success() {
+        BigInteger longMax = BigInteger.valueOf(Long.MAX_VALUE);
+        BigInteger[] row = {BigInteger.ONE};
+        for (int n = 0; n <= 200; n++) {
+            for (int k = 0; k <= n; k++) {
+                OptionalLong value = Factorials.longCombinations(n, k);
+                if (row[k].compareTo(longMax) <= 0) {
+                    Assertions.assertEquals(OptionalLong.of(row[k].longValueExact()), value);
+                } else {
+                    Assertions.assertEquals(OptionalLong.empty(), value);
+                }
+                Assertions.assertEquals(row[k], Factorials.combinations(n, k));
+            }
+
+            BigInteger[] next = new BigInteger[n + 2];
+            next[0] = BigInteger.ONE;
+            next[n + 1] = BigInteger.ONE;
+            for (int k = 1; k <= n; k++) {
+                next[k] = row[k - 1].add(row[k]);
+            }
+            row = next;
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("_longCombinationsLarge_Success_DataSet")
+    public void longCombinationsLarge_Success(int n, int k) {
+        BigInteger expected = BigInteger.ONE;
+        for (int i = 1; i <= k; i++) {
+            expected = expected.multiply(BigInteger.valueOf(n - k + i)).divide(BigInteger.valueOf(i));
+        }
+
+        OptionalLong expectedValue = expected.bitLength() < Long.SIZE
+                ? OptionalLong.of(expected.longValue()) : OptionalLong.empty();
+        Assertions.assertEquals(expectedValue, Factorials.longCombinations(n, k));
+        Assertions.assertEquals(expected, Factorials.combinations(n, k));
+    }
+
+    public static Stream<Arguments> _longCombinationsLarge_Success_DataSet() {
+        return Stream.of(
+                Arguments.of(Integer.MAX_VALUE, 0),
+                Arguments.of(Integer.MAX_VALUE, 1),
+                Arguments.of(Integer.MAX_VALUE, 2),
+                Arguments.of(Integer.MAX_VALUE, 3),
+                Arguments.of(1_000_000, 3),
+                Arguments.of(1_000_000, 4),
+                Arguments.of(100_000, 4),
+                Arguments.of(1_000, 9),
+                Arguments.of(1_000, 10)
+        );
+    }
+
+    @Test
+    public void longCombinations_Exception() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.longCombinations(3, 4));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Factorials.longCombinations(3, -1));
+    }
+}
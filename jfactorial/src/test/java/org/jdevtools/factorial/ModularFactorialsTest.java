@@ -0,0 +1,130 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.stream.Stream;
+
+/**
+ * Testing class for {@link ModularFactorials}.
+ */
+public class ModularFactorialsTest {
+
+    @ParameterizedTest
+    @MethodSource("_factorialMod_Success_DataSet")
+    public void factorialMod_Success(long n, long modulus) {
+        long expected = Factorials.factorial((int) n).mod(BigInteger.valueOf(modulus)).longValueExact();
+        Assertions.assertEquals(expected, ModularFactorials.factorialMod(n, modulus));
+    }
+
+    public static Stream<Arguments> _factorialMod_Success_DataSet() {
+        return Stream.of(
+                Arguments.of(0L, 1L),
+                Arguments.of(0L, 7L),
+                Arguments.of(5L, 7L),
+                Arguments.of(7L, 7L),
+                Arguments.of(100L, 1_000_000_007L),
+                Arguments.of(1_000L, 998_244_353L),
+                Arguments.of(1_000L, 1_024L),
+                Arguments.of(500L, 4_611_686_018_427_387_847L),
+                Arguments.of(500L, Long.MAX_VALUE)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("_combinationsMod_Success_DataSet")
+    public void combinationsMod_Success(long n, long k, long prime) {
+        long expected = Factorials.combinations((int) n, (int) k).mod(BigInteger.valueOf(prime)).longValueExact();
+        Assertions.assertEquals(expected, ModularFactorials.combinationsMod(n, k, prime));
+    }
+
+    public static Stream<Arguments> _combinationsMod_Success_DataSet() {
+        return Stream.of(
+                Arguments.of(0L, 0L, 2L),
+                Arguments.of(10L, 3L, 2L),
+                Arguments.of(10L, 3L, 3L),
+                Arguments.of(1_000L, 500L, 7L),
+                Arguments.of(1_000L, 333L, 13L),
+                Arguments.of(2_021L, 1_000L, 101L),
+                Arguments.of(5_000L, 1_234L, 1_000_000_007L)
+        );
+    }
+
+    @Test
+    public void tables_Success() {
+        long prime = 1_000_000_007L;
+        ModularFactorials tables = ModularFactorials.of(300, prime);
+        BigInteger modulus = BigInteger.valueOf(prime);
+
+        Assertions.assertEquals(300, tables.getMaxDigit());
+        Assertions.assertEquals(prime, tables.getModulus());
+        for (int n = 0; n <= 300; n++) {
+            Assertions.assertEquals(Factorials.factorial(n).mod(modulus).longValueExact(), tables.factorial(n));
+            Assertions.assertEquals(1L, BigInteger.valueOf(tables.factorial(n))
+                    .multiply(BigInteger.valueOf(tables.inverseFactorial(n))).mod(modulus).longValueExact());
+        }
+
+        for (int k = 0; k <= 300; k += 7) {
+            Assertions.assertEquals(Factorials.combinations(300, k).mod(modulus).longValueExact(),
+                    tables.combinations(300, k));
+        }
+    }
+
+    @Test
+    public void tablesLucas_Success() {
+        ModularFactorials tables = ModularFactorials.of(12, 13L);
+        for (int k = 0; k <= 1_000; k += 37) {
+            Assertions.assertEquals(Factorials.combinations(1_000, k).mod(BigInteger.valueOf(13L)).longValueExact(),
+                    tables.combinations(1_000L, k));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("_of_Exception_DataSet")
+    public <X extends Exception> void of_Exception(int maxDigit, long prime, Class<X> expectedException) {
+        Assertions.assertThrows(expectedException, () -> ModularFactorials.of(maxDigit, prime));
+    }
+
+    public static Stream<Arguments> _of_Exception_DataSet() {
+        return Stream.of(
+                Arguments.of(-1, 7L, IllegalArgumentException.class),
+                Arguments.of(10, 12L, IllegalArgumentException.class),
+                Arguments.of(10, 1L, IllegalArgumentException.class),
+                Arguments.of(10, 7L, IllegalArgumentException.class)
+        );
+    }
+
+    @Test
+    public void queries_Exception() {
+        ModularFactorials tables = ModularFactorials.of(10, 1_000_000_007L);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tables.factorial(11));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tables.inverseFactorial(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tables.combinations(20L, 3L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> tables.combinations(3L, 4L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularFactorials.factorialMod(-1L, 7L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularFactorials.factorialMod(3L, 0L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularFactorials.combinationsMod(3L, -1L, 7L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ModularFactorials.combinationsMod(3L, 1L, 1L));
+    }
+}
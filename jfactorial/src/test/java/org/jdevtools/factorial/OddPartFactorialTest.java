@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Testing class for {@link OddPartFactorial}.
+ */
+public class OddPartFactorialTest {
+
+    @ParameterizedTest
+    @MethodSource("_oddPartFactorial_Success_DataSet")
+    public void oddPartFactorial_Success(int n) {
+        BigInteger factorial = Factorials.factorial(n);
+        OddPartFactorial oddPartFactorial = Factorials.oddPartFactorial(n);
+
+        Assertions.assertEquals(n, oddPartFactorial.getDigit());
+        Assertions.assertTrue(oddPartFactorial.getOddPart().testBit(0));
+        Assertions.assertEquals(factorial.getLowestSetBit(), oddPartFactorial.getTwoExponent());
+        Assertions.assertEquals(factorial.shiftRight(factorial.getLowestSetBit()), oddPartFactorial.getOddPart());
+        Assertions.assertEquals(factorial.bitLength(), oddPartFactorial.bitLength());
+        Assertions.assertEquals(factorial, oddPartFactorial.toBigInteger());
+        Assertions.assertEquals(oddPartFactorial, Factorials.oddPartFactorial(n));
+    }
+
+    public static Stream<Arguments> _oddPartFactorial_Success_DataSet() {
+        return IntStream.of(0, 1, 2, 3, 7, 20, 21, 22, 64, 100, 1_023, 1_024, 10_000)
+                .mapToObj(Arguments::of);
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2021-2022 Ilnur Nasybullin
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.jdevtools.factorial;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Testing class for {@link PermutationIndex}.
+ */
+public class PermutationIndexTest {
+
+    @ParameterizedTest
+    @MethodSource("_unrank_Success_DataSet")
+    public void unrank_Success(long rank, int n, int[] expectedPermutation) {
+        Assertions.assertArrayEquals(expectedPermutation, PermutationIndex.unrank(rank, n));
+        Assertions.assertArrayEquals(expectedPermutation, PermutationIndex.unrank(BigInteger.valueOf(rank), n));
+        Assertions.assertEquals(rank, PermutationIndex.longRank(expectedPermutation));
+        Assertions.assertEquals(BigInteger.valueOf(rank), PermutationIndex.rank(expectedPermutation));
+    }
+
+    public static Stream<Arguments> _unrank_Success_DataSet() {
+        return Stream.of(
+                Arguments.of(0L, 0, new int[]{}),
+                Arguments.of(0L, 1, new int[]{0}),
+                Arguments.of(1L, 2, new int[]{1, 0}),
+                Arguments.of(0L, 3, new int[]{0, 1, 2}),
+                Arguments.of(3L, 3, new int[]{1, 2, 0}),
+                Arguments.of(5L, 3, new int[]{2, 1, 0}),
+                Arguments.of(463L, 6, new int[]{3, 5, 1, 0, 4, 2}),
+                Arguments.of(2_432_902_008_176_639_999L, 20,
+                        new int[]{19, 18, 17, 16, 15, 14, 13, 12, 11, 10, 9, 8, 7, 6, 5, 4, 3, 2, 1, 0})
+        );
+    }
+
+    @Test
+    public void rank_Large() {
+        Random random = new Random(7);
+        for (int n: new int[]{21, 100, 1_000}) {
+            BigInteger rank = new BigInteger(Factorials.factorial(n).bitLength() - 1, random);
+            int[] permutation = PermutationIndex.unrank(rank, n);
+            Assertions.assertEquals(rank, PermutationIndex.rank(permutation));
+        }
+
+        int[] last = PermutationIndex.unrank(Factorials.factorial(25).subtract(BigInteger.ONE), 25);
+        for (int i = 0; i < last.length; i++) {
+            Assertions.assertEquals(24 - i, last[i]);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("_unrank_Exception_DataSet")
+    public <X extends Exception> void unrank_Exception(BigInteger rank, int n, Class<X> expectedException) {
+        Assertions.assertThrows(expectedException, () -> PermutationIndex.unrank(rank, n));
+        if (rank != null) {
+            Assertions.assertThrows(expectedException, () -> PermutationIndex.unrank(rank.longValue(), n));
+        }
+    }
+
+    public static Stream<Arguments> _unrank_Exception_DataSet() {
+        return Stream.of(
+                Arguments.of(null, 3, NullPointerException.class),
+                Arguments.of(BigInteger.ONE, -1, IllegalArgumentException.class),
+                Arguments.of(BigInteger.ONE.negate(), 3, IllegalArgumentException.class),
+                Arguments.of(BigInteger.ONE, 0, IllegalArgumentException.class),
+                Arguments.of(BigInteger.valueOf(6), 3, IllegalArgumentException.class)
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("_rank_Exception_DataSet")
+    public <X extends Exception> void rank_Exception(int[] permutation, Class<X> expectedException) {
+        Assertions.assertThrows(expectedException, () -> PermutationIndex.rank(permutation));
+        Assertions.assertThrows(expectedException, () -> PermutationIndex.longRank(permutation));
+    }
+
+    public static Stream<Arguments> _rank_Exception_DataSet() {
+        return Stream.of(
+                Arguments.of(null, NullPointerException.class),
+                Arguments.of(new int[]{0, 0}, IllegalArgumentException.class),
+                Arguments.of(new int[]{0, 2}, IllegalArgumentException.class),
+                Arguments.of(new int[]{-1, 0}, IllegalArgumentException.class)
+        );
+    }
+
+    @Test
+    public void longRank_Overflow() {
+        int[] permutation = PermutationIndex.unrank(Factorials.factorial(21).subtract(BigInteger.ONE), 21);
+        Assertions.assertThrows(ArithmeticException.class, () -> PermutationIndex.longRank(permutation));
+    }
+
+    @Test
+    public void iterator_Success() {
+        int[] permutation = {0, 1, 2, 3, 4};
+        Iterator<int[]> iterator = PermutationIndex.iterator(permutation);
+
+        long rank = 0L;
+        while (iterator.hasNext()) {
+            int[] next = iterator.next();
+            Assertions.assertSame(permutation, next);
+            Assertions.assertArrayEquals(PermutationIndex.unrank(rank, 5), next);
+            rank++;
+        }
+
+        Assertions.assertEquals(120L, rank);
+        Assertions.assertFalse(PermutationIndex.nextPermutation(permutation));
+    }
+
+    @Test
+    public void spliterator_Success() {
+        List<int[]> permutations = StreamSupport.stream(PermutationIndex.spliterator(7), true)
+                .map(int[]::clone)
+                .collect(Collectors.toList());
+
+        Assertions.assertEquals(5_040, permutations.size());
+        for (int i = 0; i < permutations.size(); i++) {
+            Assertions.assertEquals(i, PermutationIndex.longRank(permutations.get(i)));
+        }
+
+        List<int[]> range = StreamSupport.stream(PermutationIndex.spliterator(25, 1_000L, 1_100L), true)
+                .map(int[]::clone)
+                .collect(Collectors.toList());
+
+        Assertions.assertEquals(100, range.size());
+        for (int i = 0; i < range.size(); i++) {
+            Assertions.assertEquals(1_000L + i, PermutationIndex.longRank(range.get(i)));
+        }
+
+        Assertions.assertEquals(0L, PermutationIndex.spliterator(0, 1L, 1L).estimateSize());
+    }
+
+    @Test
+    public void spliterator_Exception() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PermutationIndex.spliterator(21));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PermutationIndex.spliterator(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PermutationIndex.spliterator(3, -1L, 2L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PermutationIndex.spliterator(3, 2L, 1L));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> PermutationIndex.spliterator(3, 0L, 7L));
+    }
+}